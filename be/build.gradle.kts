@@ -56,6 +56,9 @@ dependencies {
 	// Gson - JSON 메시지를 다루기 위한 라이브러리
 	implementation("com.google.code.gson:gson")
 
+	// Caffeine - 로컬 캐시 (W-TinyLFU)
+	implementation("com.github.ben-manes.caffeine:caffeine")
+
 	// Oauth2
 	implementation("org.springframework.boot:spring-boot-starter-oauth2-client")
 
@@ -0,0 +1,38 @@
+package com.dd.blog.domain.admin.controller;
+
+import com.dd.blog.domain.admin.dto.CategoryPolicyUpdateRequestDto;
+import com.dd.blog.domain.admin.service.AdminCategoryService;
+import com.dd.blog.domain.post.category.dto.CategoryPolicy;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+
+@Tag(name = "AdminCategory API", description = "관리자용 게시판 정책 관리 API")
+@PreAuthorize("hasRole('ADMIN')")
+@RestController
+@RequestMapping("/api/admin/categories")
+@RequiredArgsConstructor
+public class AdminCategoryController {
+
+    private final AdminCategoryService adminCategoryService;
+
+    @Operation(summary = "게시판 정책 변경", description = "이미지 필수 여부, 하루 작성 제한, 관리자 전용 여부, 지급 포인트를 변경")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "변경 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없는 사용자 (관리자 아님)"),
+            @ApiResponse(responseCode = "404", description = "해당 카테고리 없음")
+    })
+    @PatchMapping("/{categoryId}/policy")
+    public ResponseEntity<CategoryPolicy> updateCategoryPolicy(
+            @PathVariable Long categoryId,
+            @Valid @RequestBody CategoryPolicyUpdateRequestDto requestDto) {
+        return ResponseEntity.ok(adminCategoryService.updateCategoryPolicy(categoryId, requestDto));
+    }
+}
@@ -1,5 +1,6 @@
 package com.dd.blog.domain.admin.controller;
 
+import com.dd.blog.domain.admin.dto.AdminCacheStatsDto;
 import com.dd.blog.domain.admin.dto.AdminDashboardStatsDto;
 import com.dd.blog.domain.admin.service.AdminDashboardService;
 import io.swagger.v3.oas.annotations.Operation;
@@ -37,4 +38,15 @@ public class AdminDashboardController {
         return ResponseEntity.ok(statsDto);
     }
 
+    @Operation(summary = "게시글 상세 캐시 통계 조회", description = "게시글 상세 캐시의 크기, 적중/미스 횟수, 적중률, 축출 횟수를 조회")
+    @ApiResponses(value = {
+            @ApiResponse(responseCode = "200", description = "통계 조회 성공"),
+            @ApiResponse(responseCode = "401", description = "인증되지 않은 사용자"),
+            @ApiResponse(responseCode = "403", description = "접근 권한이 없는 사용자 (관리자 아님)")
+    })
+    @GetMapping("/cache/post-detail")
+    public ResponseEntity<AdminCacheStatsDto> getPostDetailCacheStats() {
+        return ResponseEntity.ok(adminDashboardService.getPostDetailCacheStats());
+    }
+
 }
@@ -0,0 +1,28 @@
+package com.dd.blog.domain.admin.dto;
+
+import io.swagger.v3.oas.annotations.media.Schema;
+import jakarta.validation.constraints.Min;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import lombok.Setter;
+
+@Schema(description = "게시판 정책 변경 요청 DTO (null인 항목은 유지)")
+@Getter
+@Setter
+@NoArgsConstructor
+public class CategoryPolicyUpdateRequestDto {
+
+    @Schema(description = "이미지 필수 여부", example = "false")
+    private Boolean imageRequired;
+
+    @Schema(description = "하루 작성 가능 게시글 수 (0이면 제한 없음)", example = "10")
+    @Min(value = 0, message = "하루 작성 제한은 0 이상이어야 합니다.")
+    private Integer dailyPostLimit;
+
+    @Schema(description = "관리자 전용 여부", example = "false")
+    private Boolean adminOnly;
+
+    @Schema(description = "작성 시 지급 포인트", example = "10")
+    @Min(value = 0, message = "지급 포인트는 0 이상이어야 합니다.")
+    private Integer pointReward;
+}
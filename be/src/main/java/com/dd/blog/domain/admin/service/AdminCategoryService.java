@@ -0,0 +1,37 @@
+package com.dd.blog.domain.admin.service;
+
+import com.dd.blog.domain.admin.dto.CategoryPolicyUpdateRequestDto;
+import com.dd.blog.domain.post.category.dto.CategoryPolicy;
+import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.event.CategoryPolicyChangedEvent;
+import com.dd.blog.global.exception.ApiException;
+import com.dd.blog.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+@Service
+@RequiredArgsConstructor
+public class AdminCategoryService {
+
+    private final CategoryRepository categoryRepository;
+    private final ApplicationEventPublisher eventPublisher;
+
+    // 정책 변경 후 커밋되면 CategoryRegistry가 재로딩
+    @Transactional
+    public CategoryPolicy updateCategoryPolicy(Long categoryId, CategoryPolicyUpdateRequestDto requestDto) {
+        Category category = categoryRepository.findById(categoryId)
+                .orElseThrow(() -> new ApiException(ErrorCode.CATEGORY_NOT_FOUND));
+
+        if (requestDto.getImageRequired() != null) category.setImageRequired(requestDto.getImageRequired());
+        if (requestDto.getDailyPostLimit() != null) category.setDailyPostLimit(requestDto.getDailyPostLimit());
+        if (requestDto.getAdminOnly() != null) category.setAdminOnly(requestDto.getAdminOnly());
+        if (requestDto.getPointReward() != null) category.setPointReward(requestDto.getPointReward());
+
+        eventPublisher.publishEvent(new CategoryPolicyChangedEvent(this, categoryId));
+
+        return CategoryPolicy.from(category);
+    }
+}
@@ -1,12 +1,15 @@
 package com.dd.blog.domain.admin.service;
 
+import com.dd.blog.domain.admin.dto.AdminCacheStatsDto;
 import com.dd.blog.domain.admin.dto.AdminDashboardStatsDto;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
 import com.dd.blog.domain.post.verification.entity.VerificationStatus;
 import com.dd.blog.domain.post.verification.repository.VerificationRepository;
 import com.dd.blog.domain.report.entity.ReportStatus;
 import com.dd.blog.domain.report.repository.ReportRepository;
 import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -23,6 +26,7 @@ public class AdminDashboardService {
     private final UserRepository userRepository;
     private final VerificationRepository verificationRepository;
     private final ReportRepository reportRepository;
+    private final PostDetailCacheService postDetailCacheService;
 
     @Transactional(readOnly = true)
     public AdminDashboardStatsDto getDashboardStats() {
@@ -67,5 +71,18 @@ public class AdminDashboardService {
 
     }
 
+    // 게시글 상세 캐시 적중/미스 통계
+    public AdminCacheStatsDto getPostDetailCacheStats() {
+        CacheStats stats = postDetailCacheService.getStats();
+
+        return AdminCacheStatsDto.builder()
+                .size(postDetailCacheService.getSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+
 
 }
@@ -1,10 +1,17 @@
 package com.dd.blog.domain.admin.service;
 
+import com.dd.blog.domain.post.event.PostDeletedEvent;
+import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
+import com.dd.blog.domain.post.post.service.PostQuotaService;
+import com.dd.blog.domain.post.ranking.service.PostRankingService;
+import com.dd.blog.domain.post.timeline.service.TimelineService;
 import com.dd.blog.domain.report.repository.ReportRepository;
 import com.dd.blog.global.exception.ApiException;
 import com.dd.blog.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -14,15 +21,25 @@ public class AdminPostService {
 
     private final PostRepository postRepository;
     private final ReportRepository reportRepository;
+    private final TimelineService timelineService;
+    private final PostRankingService postRankingService;
+    private final ApplicationEventPublisher eventPublisher;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PostQuotaService postQuotaService;
 
     @Transactional
     public void deletePostByAdmin(Long postId) {
-        if(!postRepository.existsById(postId))
-            throw new ApiException(ErrorCode.POST_NOT_FOUND);
+        Post post = postRepository.findById(postId)
+                .orElseThrow(() -> new ApiException(ErrorCode.POST_NOT_FOUND));
 
         reportRepository.unlinkReportsFromPost(postId);
+        timelineService.removePost(postId);
+        postRankingService.remove(postId);
+        postDetailCacheService.evict(postId);
+        postQuotaService.release(post.getUser().getId(), post.getCategory().getId(), post.getCreatedAt());
 
-        postRepository.deleteById(postId);
+        postRepository.delete(post);
+        eventPublisher.publishEvent(new PostDeletedEvent(this, postId));
     }
 
 }
@@ -7,10 +7,12 @@ import com.dd.blog.domain.point.point.service.PointHistoryService;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.entity.UserRole;
 import com.dd.blog.domain.user.user.entity.UserStatus;
+import com.dd.blog.domain.user.user.event.UserNicknameChangedEvent;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import com.dd.blog.global.exception.ApiException;
 import com.dd.blog.global.exception.ErrorCode;
 import lombok.RequiredArgsConstructor;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.*;
 import org.springframework.data.jpa.domain.Specification;
 import org.springframework.stereotype.Service;
@@ -23,6 +25,7 @@ public class AdminUserService { //
 
     private final UserRepository userRepository;
     private final PointHistoryService pointHistoryService;
+    private final ApplicationEventPublisher eventPublisher;
 
     // 관리자용 : 특정 조건에 맞는 모든 사용자 목록 페이징 조회
     @Transactional(readOnly = true)
@@ -88,6 +91,7 @@ public class AdminUserService { //
             targetUser.setEmail("deleted_" + targetUser.getEmail());
             targetUser.setPassword(null);
             targetUser.setRefreshToken(null);
+            eventPublisher.publishEvent(new UserNicknameChangedEvent(this, targetUser.getId(), targetUser.getNickname()));
             // 팔로우 관계 끊기 등 추후 적용 검토
         }
 
@@ -1,5 +1,8 @@
 package com.dd.blog.domain.admin.service;
 import com.dd.blog.domain.point.point.service.PointService;
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
+import com.dd.blog.domain.post.image.service.ImageVariantService;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
 import com.dd.blog.domain.post.verification.dto.VerificationResponseDto;
 import com.dd.blog.domain.post.verification.entity.Verification;
 import com.dd.blog.domain.post.verification.entity.VerificationStatus;
@@ -11,6 +14,8 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.util.Map;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -18,12 +23,15 @@ public class AdminVerificationService {
 
     private final VerificationRepository verificationRepository;
     private final PointService pointService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final ImageVariantService imageVariantService;
 
     @Transactional
     public void approveVerification(Long verificationId) {
 
         Verification verification = findAndValidateVerification(verificationId);
         verification.setStatus(VerificationStatus.APPROVED);
+        postDetailCacheService.evict(verification.getPost().getId());
 
         pointService.addPointsForCertificationApproval(verification);
 
@@ -34,6 +42,7 @@ public class AdminVerificationService {
 
         Verification verification = findAndValidateVerification(verificationId);
         verification.setStatus(VerificationStatus.REJECTED);
+        postDetailCacheService.evict(verification.getPost().getId());
     }
 
     // 주어진 ID로 Verification 엔티티를 조회하고 PENDING 상태인지 검증
@@ -56,7 +65,11 @@ public class AdminVerificationService {
     public Page<VerificationResponseDto> getPendingVerification(Pageable pageable) {
 
         Page<Verification> verificationPage = verificationRepository.findByStatusOrderByIdAsc(VerificationStatus.PENDING, pageable);
-        Page<VerificationResponseDto> dtoPage = verificationPage.map(VerificationResponseDto::fromEntity);
+        // 인증 이미지의 변환본을 한 번의 IN 쿼리로 조회
+        Map<String, ImageVariantUrls> variants = imageVariantService.getVariants(verificationPage.getContent().stream()
+                .map(verification -> verification.getPost().getVerificationImageUrl())
+                .toList());
+        Page<VerificationResponseDto> dtoPage = verificationPage.map(verification -> VerificationResponseDto.fromEntity(verification, variants));
 
         return dtoPage;
     }
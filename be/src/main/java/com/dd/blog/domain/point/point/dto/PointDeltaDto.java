@@ -0,0 +1,5 @@
+package com.dd.blog.domain.point.point.dto;
+
+// 사용자별 포인트 변화량 (total: 적립 합계, remaining: 적립-사용 합계)
+public record PointDeltaDto(Long userId, Long totalDelta, Long remainingDelta) {
+}
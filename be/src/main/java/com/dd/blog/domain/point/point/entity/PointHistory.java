@@ -12,7 +12,17 @@ import lombok.experimental.SuperBuilder;
 @Entity
 @SuperBuilder
 @ToString
-@Table(name = "point_history")
+// 포인트 원장 (추가만 하고 수정/삭제하지 않음, balancePending만 한 번 false로 바뀜)
+// 양수는 적립(total, remaining 증가), 음수는 사용(remaining 감소)
+@Table(
+        name = "point_history",
+        indexes = {
+                // 사용자별 내역 조회용
+                @Index(name = "idx_point_history_user_id_id", columnList = "user_id, id"),
+                // 잔액 미반영 적립 조회용
+                @Index(name = "idx_point_history_pending_id", columnList = "balance_pending, id")
+        }
+)
 public class PointHistory extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "user_id", nullable = false)
@@ -23,4 +33,9 @@ public class PointHistory extends BaseEntity {
 
     @Column(nullable = false, length = 30)
     private String type;
+
+    // users 잔액에 아직 반영되지 않은 적립 (적립은 원장만 먼저 기록하고 잔액은 배치로 반영)
+    @Column(name = "balance_pending", nullable = false)
+    @Builder.Default
+    private boolean balancePending = false;
 }
@@ -0,0 +1,29 @@
+package com.dd.blog.domain.point.point.entity;
+
+import com.dd.blog.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// 사용자별 포인트 잔액 스냅샷
+// lastEntryId까지의 포인트 원장(point_history)을 합산한 값 → 잔액 = 스냅샷 + 이후 원장
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@SuperBuilder
+@ToString
+@Table(name = "point_snapshot")
+public class PointSnapshot extends BaseEntity {
+    @Column(name = "user_id", nullable = false, unique = true)
+    private Long userId;
+
+    @Column(name = "last_entry_id", nullable = false)
+    private Long lastEntryId;
+
+    @Column(name = "total_point", nullable = false)
+    private int totalPoint;
+
+    @Column(name = "remaining_point", nullable = false)
+    private int remainingPoint;
+}
@@ -21,7 +21,7 @@ public class PostEventListener {
         try {
             pointService.addPointsForNewPost(event.getPost());
         } catch (Exception e) {
-            log.error("포인트 적립 실패 postId = {}", event.getPost().getId());
+            log.error("포인트 적립 실패 postId = {}", event.getPost().getId(), e);
         }
     }
 }
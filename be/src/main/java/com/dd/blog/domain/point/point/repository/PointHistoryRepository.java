@@ -1,14 +1,35 @@
 package com.dd.blog.domain.point.point.repository;
 
+import com.dd.blog.domain.point.point.dto.PointDeltaDto;
 import com.dd.blog.domain.point.point.entity.PointHistory;
-import com.dd.blog.domain.user.user.entity.User;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
 @Repository
 public interface PointHistoryRepository extends JpaRepository<PointHistory, Long> {
 
-    Page<PointHistory> findByUserOrderByCreatedAtDesc(User user, Pageable pageable);
+    // 사용자 포인트 원장 조회 (사용자 엔티티 로딩 없이)
+    Page<PointHistory> findByUserId(Long userId, Pageable pageable);
+
+    // 스냅샷 압축 대상의 마지막 원장 ID (커밋 지연 중인 항목을 건너뛰지 않도록 일정 시간 이전 항목까지만)
+    @Query("SELECT MAX(h.id) FROM PointHistory h WHERE h.createdAt < :before")
+    Optional<Long> findMaxIdCreatedBefore(@Param("before") LocalDateTime before);
+
+    // 잔액에 아직 반영되지 않은 가장 오래된 원장 ID (스냅샷은 이 앞까지만 압축)
+    @Query("SELECT MIN(h.id) FROM PointHistory h WHERE h.balancePending = true")
+    Optional<Long> findMinPendingId();
+
+    // (afterId, toId] 구간 원장의 사용자별 합계
+    @Query("SELECT new com.dd.blog.domain.point.point.dto.PointDeltaDto(h.user.id, " +
+            "SUM(CASE WHEN h.pointChange > 0 THEN h.pointChange ELSE 0 END), SUM(h.pointChange)) " +
+            "FROM PointHistory h WHERE h.id > :afterId AND h.id <= :toId GROUP BY h.user.id")
+    List<PointDeltaDto> sumByUserBetween(@Param("afterId") Long afterId, @Param("toId") Long toId);
 }
@@ -0,0 +1,16 @@
+package com.dd.blog.domain.point.point.repository;
+
+import com.dd.blog.domain.point.point.entity.PointSnapshot;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface PointSnapshotRepository extends JpaRepository<PointSnapshot, Long> {
+
+    // 스냅샷에 반영된 마지막 원장 ID (압축 시작 지점)
+    @Query("SELECT MAX(s.lastEntryId) FROM PointSnapshot s")
+    Optional<Long> findMaxLastEntryId();
+}
@@ -3,7 +3,6 @@ package com.dd.blog.domain.point.point.service;
 import com.dd.blog.domain.point.point.dto.PointHistoryResponseDto;
 import com.dd.blog.domain.point.point.entity.PointHistory;
 import com.dd.blog.domain.point.point.repository.PointHistoryRepository;
-import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
@@ -20,10 +19,12 @@ public class PointHistoryService {
 
     @Transactional(readOnly = true)
     public Page<PointHistoryResponseDto> getUserPointHistory(Long userid, Pageable pageable) {
-        User user = userRepository.findById(userid)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다. id: " + userid));
+        if (!userRepository.existsById(userid)) {
+            throw new IllegalArgumentException("해당 유저가 존재하지 않습니다. id: " + userid);
+        }
 
-        Page<PointHistory> historyPage = pointHistoryRepository.findByUserOrderByCreatedAtDesc(user, pageable);
+        // 포인트 원장 직접 조회
+        Page<PointHistory> historyPage = pointHistoryRepository.findByUserId(userid, pageable);
         Page<PointHistoryResponseDto> dtoPage = historyPage.map(this::toDto);
 
         return dtoPage;
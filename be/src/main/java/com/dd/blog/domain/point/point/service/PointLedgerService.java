@@ -0,0 +1,242 @@
+package com.dd.blog.domain.point.point.service;
+
+import com.dd.blog.domain.point.point.dto.PointDeltaDto;
+import com.dd.blog.domain.point.point.entity.PointHistory;
+import com.dd.blog.domain.point.point.repository.PointHistoryRepository;
+import com.dd.blog.domain.point.point.repository.PointSnapshotRepository;
+import com.dd.blog.domain.user.user.dto.UserRoleStatDto;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+
+// 포인트 원장 (point_history가 잔액의 원천)
+// - 적립: 요청 트랜잭션에서 원장에 INSERT만 하고(balance_pending), 사용자별 잔액 증가는 주기적으로 모아서 배치 반영
+//   → 요청 스레드는 사용자 행을 읽거나 잠그지 않고, 원장은 요청과 함께 커밋되므로 서버가 죽어도 유실되지 않음
+// - 사용: 잔액 확인이 필요하므로 즉시 원장에 기록하고 잔액을 원자적으로 차감
+// - users.total_point / remaining_point는 원장 합계의 조회용 사본 (O(1) 조회)
+// - 스냅샷: 원장을 주기적으로 사용자별 합계로 압축 → 잔액 = 스냅샷 + 이후 원장
+@Slf4j
+@Service
+public class PointLedgerService {
+
+    private static final String INSERT_PENDING_ENTRY_SQL =
+            "INSERT INTO point_history (user_id, point_change, type, balance_pending, created_at, updated_at) VALUES (?, ?, ?, TRUE, ?, ?)";
+    private static final String SELECT_PENDING_SQL =
+            "SELECT id, user_id, point_change FROM point_history WHERE balance_pending = TRUE ORDER BY id LIMIT ?";
+    // 조건부로 표시해서 다른 서버와 같은 항목을 두 번 반영하지 않음
+    private static final String MARK_APPLIED_SQL =
+            "UPDATE point_history SET balance_pending = FALSE WHERE id = ? AND balance_pending = TRUE";
+    private static final String APPLY_BALANCE_SQL =
+            "UPDATE users SET total_point = total_point + ?, remaining_point = remaining_point + ? WHERE id = ?";
+    private static final String UPDATE_SNAPSHOT_SQL =
+            "UPDATE point_snapshot SET total_point = total_point + ?, remaining_point = remaining_point + ?, " +
+            "last_entry_id = ?, updated_at = ? WHERE user_id = ?";
+    // 스냅샷이 없는 사용자: 현재 잔액에서 toId 이후 반영된 원장을 뺀 값으로 생성 (기존 데이터/신규 가입자)
+    private static final String INSERT_MISSING_SNAPSHOT_SQL =
+            "INSERT INTO point_snapshot (user_id, last_entry_id, total_point, remaining_point, created_at, updated_at) " +
+            "SELECT u.id, ?, " +
+            "       u.total_point - COALESCE(SUM(CASE WHEN h.point_change > 0 THEN h.point_change ELSE 0 END), 0), " +
+            "       u.remaining_point - COALESCE(SUM(h.point_change), 0), ?, ? " +
+            "FROM users u LEFT JOIN point_history h ON h.user_id = u.id AND h.id > ? AND h.balance_pending = FALSE " +
+            "WHERE NOT EXISTS (SELECT 1 FROM point_snapshot s WHERE s.user_id = u.id) " +
+            "GROUP BY u.id, u.total_point, u.remaining_point";
+    // 스냅샷 + 이후 반영된 원장으로 계산한 잔액이 users 컬럼과 다른 사용자 (미반영 적립은 flush가 더함)
+    private static final String DRIFTED_BALANCE_SQL =
+            "SELECT u.id, u.total_point AS current_total, u.remaining_point AS current_remaining, " +
+            "       t.total_point, t.remaining_point FROM users u JOIN (" +
+            "  SELECT s.user_id, " +
+            "         s.total_point + COALESCE(SUM(CASE WHEN h.point_change > 0 THEN h.point_change ELSE 0 END), 0) AS total_point, " +
+            "         s.remaining_point + COALESCE(SUM(h.point_change), 0) AS remaining_point " +
+            "  FROM point_snapshot s LEFT JOIN point_history h " +
+            "    ON h.user_id = s.user_id AND h.id > s.last_entry_id AND h.balance_pending = FALSE " +
+            "  GROUP BY s.user_id, s.total_point, s.remaining_point) t ON t.user_id = u.id " +
+            "WHERE u.total_point <> t.total_point OR u.remaining_point <> t.remaining_point";
+    // 조회 이후 잔액이 바뀌었으면(동시 사용) 덮어쓰지 않음
+    private static final String SET_BALANCE_SQL =
+            "UPDATE users SET total_point = ?, remaining_point = ? WHERE id = ? AND total_point = ? AND remaining_point = ?";
+
+    // 한 트랜잭션에서 잔액에 반영하는 원장 항목 수
+    private static final int FLUSH_BATCH_SIZE = 500;
+
+    // 커밋이 늦어진 원장 항목을 건너뛰지 않도록 이 시간보다 오래된 항목만 압축
+    private static final long COMPACTION_LAG_SECONDS = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PointHistoryRepository pointHistoryRepository;
+    private final PointSnapshotRepository pointSnapshotRepository;
+    private final UserRepository userRepository;
+
+    // 잔액에 아직 반영되지 않은 원장 항목
+    private record PendingEntry(long id, long userId, int pointChange) {
+    }
+
+    public PointLedgerService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                              PointHistoryRepository pointHistoryRepository,
+                              PointSnapshotRepository pointSnapshotRepository,
+                              UserRepository userRepository) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.pointHistoryRepository = pointHistoryRepository;
+        this.pointSnapshotRepository = pointSnapshotRepository;
+        this.userRepository = userRepository;
+    }
+
+    // 적립 기록 (호출한 트랜잭션에 참여해 원장에 INSERT만, 잔액은 다음 flush에서 반영)
+    public void record(Long userId, int pointChange, String type) {
+        LocalDateTime now = LocalDateTime.now();
+        jdbcTemplate.update(INSERT_PENDING_ENTRY_SQL, userId, pointChange, type, now, now);
+    }
+
+    // 포인트 사용 (잔액이 충분할 때만 차감하고 원장에 즉시 기록, 부족하면 false)
+    // 조건부 UPDATE 한 번으로 처리하므로 별도의 락 없이도 동시 사용 시 잔액이 음수가 되지 않음
+    @Transactional
+    public boolean spend(Long userId, int amount, String type) {
+        if (userRepository.deductRemainingPoint(userId, amount) == 0) {
+            return false;
+        }
+        pointHistoryRepository.save(PointHistory.builder()
+                .user(userRepository.getReferenceById(userId))
+                .pointChange(-amount)
+                .type(type)
+                .build());
+        return true;
+    }
+
+    // 미반영 적립을 잔액에 배치 반영
+    // 배치가 실패하면 항목별로 다시 시도하고, 그래도 실패하는 항목은 로그를 남기고 건너뜀 (다음 기동 시 원장 기준 보정)
+    @Scheduled(fixedDelay = 1000)
+    public synchronized void flush() {
+        try {
+            while (true) {
+                List<PendingEntry> entries = jdbcTemplate.query(SELECT_PENDING_SQL, (rs, rowNum) ->
+                        new PendingEntry(rs.getLong("id"), rs.getLong("user_id"), rs.getInt("point_change")), FLUSH_BATCH_SIZE);
+                if (entries.isEmpty()) {
+                    return;
+                }
+
+                try {
+                    transactionTemplate.executeWithoutResult(status -> apply(entries));
+                } catch (Exception e) {
+                    log.error("포인트 잔액 배치 반영 실패 ({}건), 항목별로 재시도", entries.size(), e);
+                    entries.forEach(this::applyOrSkip);
+                }
+
+                if (entries.size() < FLUSH_BATCH_SIZE) {
+                    return;
+                }
+            }
+        } catch (Exception e) {
+            log.error("포인트 잔액 반영 중단", e);
+        }
+    }
+
+    private void applyOrSkip(PendingEntry entry) {
+        try {
+            transactionTemplate.executeWithoutResult(status -> apply(List.of(entry)));
+        } catch (Exception e) {
+            log.error("포인트 잔액 반영 실패 항목 건너뜀 entryId = {}, userId = {}", entry.id(), entry.userId(), e);
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.update(MARK_APPLIED_SQL, entry.id()));
+        }
+    }
+
+    private void apply(List<PendingEntry> entries) {
+        int[] marked = jdbcTemplate.batchUpdate(MARK_APPLIED_SQL, entries.stream()
+                .map(entry -> new Object[]{entry.id()})
+                .toList());
+
+        Map<Long, long[]> deltas = new LinkedHashMap<>(); // userId -> {total, remaining}
+        for (int i = 0; i < entries.size(); i++) {
+            if (marked[i] == 0) continue; // 다른 서버가 이미 반영
+            PendingEntry entry = entries.get(i);
+            long[] delta = deltas.computeIfAbsent(entry.userId(), id -> new long[2]);
+            delta[0] += Math.max(entry.pointChange(), 0);
+            delta[1] += entry.pointChange();
+        }
+        if (deltas.isEmpty()) {
+            return;
+        }
+
+        List<Object[]> balanceArgs = new ArrayList<>();
+        deltas.forEach((userId, delta) -> balanceArgs.add(new Object[]{delta[0], delta[1], userId}));
+        jdbcTemplate.batchUpdate(APPLY_BALANCE_SQL, balanceArgs);
+        upgradeRoles(deltas.keySet());
+    }
+
+    // 서버 종료 시 남은 적립 잔액 반영 (원장은 이미 기록되어 있으므로 실패해도 다음 기동 후 반영)
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    // 원장을 스냅샷으로 압축 (10분마다)
+    @Scheduled(fixedDelay = 600000, initialDelay = 600000)
+    public void compactSnapshots() {
+        transactionTemplate.executeWithoutResult(status -> {
+            long afterId = pointSnapshotRepository.findMaxLastEntryId().orElse(0L);
+            long lastSettledId = pointHistoryRepository
+                    .findMaxIdCreatedBefore(LocalDateTime.now().minusSeconds(COMPACTION_LAG_SECONDS))
+                    .orElse(0L);
+            // 잔액에 아직 반영되지 않은 항목은 스냅샷에 넣지 않음
+            long firstPendingId = pointHistoryRepository.findMinPendingId().orElse(Long.MAX_VALUE);
+            long toId = Math.max(afterId, Math.min(lastSettledId, firstPendingId - 1));
+            LocalDateTime now = LocalDateTime.now();
+
+            // 기존 스냅샷에 (afterId, toId] 구간 합계 반영
+            int updated = 0;
+            if (toId > afterId) {
+                List<Object[]> args = pointHistoryRepository.sumByUserBetween(afterId, toId).stream()
+                        .map(delta -> new Object[]{delta.totalDelta(), delta.remainingDelta(), toId, now, delta.userId()})
+                        .toList();
+                updated = Arrays.stream(jdbcTemplate.batchUpdate(UPDATE_SNAPSHOT_SQL, args)).sum();
+            }
+
+            // 스냅샷이 없는 사용자는 현재 잔액 기준으로 생성
+            int inserted = jdbcTemplate.update(INSERT_MISSING_SNAPSHOT_SQL, toId, now, now, toId);
+
+            if (updated + inserted > 0) {
+                log.info("포인트 스냅샷 압축: 원장 ID {} → {}, 갱신 {}명, 생성 {}명", afterId, toId, updated, inserted);
+            }
+        });
+    }
+
+    // 스냅샷 + 이후 반영된 원장 기준으로 users 잔액 보정 (서버 시작 시)
+    public synchronized int reconcileBalances() {
+        Integer fixed = transactionTemplate.execute(status -> {
+            List<Object[]> args = jdbcTemplate.query(DRIFTED_BALANCE_SQL, (rs, rowNum) ->
+                    new Object[]{rs.getInt("total_point"), rs.getInt("remaining_point"), rs.getLong("id"),
+                            rs.getInt("current_total"), rs.getInt("current_remaining")});
+            if (args.isEmpty()) {
+                return 0;
+            }
+            return Arrays.stream(jdbcTemplate.batchUpdate(SET_BALANCE_SQL, args)).sum();
+        });
+        if (fixed != null && fixed > 0) {
+            log.warn("원장과 어긋난 포인트 잔액 보정 {}명", fixed);
+        }
+        return fixed != null ? fixed : 0;
+    }
+
+    // 누적 포인트 기준 자동 등업
+    // 엔티티 변경감지 대신 등급 컬럼만 조건부 UPDATE (동시에 커밋된 로그인/프로필 수정을 덮어쓰지 않음)
+    private void upgradeRoles(Collection<Long> userIds) {
+        for (UserRoleStatDto stat : userRepository.findRoleStatsByIdIn(userIds)) {
+            if (stat.role() == UserRole.ROLE_ADMIN) continue;
+
+            UserRole targetRole = UserRole.getRoleForPoints(stat.totalPoint());
+            if (targetRole.isHigherThan(stat.role())) {
+                userRepository.updateRole(stat.userId(), stat.role(), targetRole);
+            }
+        }
+    }
+}
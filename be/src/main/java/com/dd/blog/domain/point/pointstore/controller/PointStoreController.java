@@ -108,14 +108,11 @@ public class PointStoreController {
             @AuthenticationPrincipal SecurityUser user,
             @PathVariable Long itemId
     ) {
-        Long userId = user.getId();
-        User target = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("유저를 찾을 수 없습니다."));
-
-        PointItem item = pointItemRepository.findById(itemId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 아이템이 존재하지 않습니다."));
+        if (!pointItemRepository.existsById(itemId)) {
+            throw new EntityNotFoundException("해당 아이템이 존재하지 않습니다.");
+        }
 
-        boolean purchased = pointStoreService.checkUserOwnsItem(target, item);
+        boolean purchased = pointStoreService.checkUserOwnsItem(user.getId(), itemId);
         return ResponseEntity.ok(purchased);
     }
 }
@@ -17,6 +17,13 @@ import java.time.LocalDateTime;
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 @AllArgsConstructor
 @Builder
+@Table(
+        name = "point_item_purchase",
+        uniqueConstraints = {
+                // 같은 아이템 중복 구매 방지
+                @UniqueConstraint(name = "point_item_purchase_uk", columnNames = {"user_id", "item_id"})
+        }
+)
 public class PointItemPurchase {
 
     @Id
@@ -1,11 +1,14 @@
 package com.dd.blog.domain.point.pointstore.repository;
 
 import com.dd.blog.domain.point.pointstore.entity.PointItemPurchase;
-import com.dd.blog.domain.point.pointstore.entity.PointItem;
 import com.dd.blog.domain.user.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.time.LocalDateTime;
 import java.util.List;
 
 @Repository
@@ -14,6 +17,20 @@ public interface PointItemPurchaseRepository extends JpaRepository<PointItemPurc
     // 특정 유저가 구매한 모든 아이템 구매 내역을 조회
     List<PointItemPurchase> findByUser(User user);
 
-    // 해당 유저가 특정 아이템을 구매했는지 여부 확인
-    boolean existsByUserAndItem(User user, PointItem item);
+    // 해당 유저가 특정 아이템을 구매했는지 여부 확인 (엔티티 로딩 없이 ID로 조회)
+    @Query("SELECT COUNT(p) > 0 FROM PointItemPurchase p WHERE p.user.id = :userId AND p.item.id = :itemId")
+    boolean existsByUserIdAndItemId(@Param("userId") Long userId, @Param("itemId") Long itemId);
+
+    // 이미 구매한 아이템이면 point_item_purchase_uk에 걸려 무시됨 (추가되면 1, 아니면 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO point_item_purchase (user_id, item_id, purchased_at) " +
+            "VALUES (:userId, :itemId, :purchasedAt)", nativeQuery = true)
+    int insertIgnore(@Param("userId") Long userId, @Param("itemId") Long itemId, @Param("purchasedAt") LocalDateTime purchasedAt);
+
+    // 유니크 제약 추가 전 쌓인 중복 구매 정리 (가장 먼저 구매한 행만 남김)
+    @Modifying
+    @Query(value = "DELETE FROM point_item_purchase WHERE id NOT IN (" +
+            "SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM point_item_purchase GROUP BY user_id, item_id) k)",
+            nativeQuery = true)
+    int deleteDuplicates();
 }
@@ -1,14 +1,12 @@
 package com.dd.blog.domain.point.pointstore.service;
 
-import com.dd.blog.domain.point.point.entity.PointHistory;
+import com.dd.blog.domain.point.point.service.PointLedgerService;
 import com.dd.blog.domain.point.pointstore.dto.PointItemPurchaseListDto;
 import com.dd.blog.domain.point.pointstore.dto.PointItemPurchaseRequestDto;
 import com.dd.blog.domain.point.pointstore.dto.PointItemPurchaseResultDto;
 import com.dd.blog.domain.point.pointstore.entity.PointItem;
-import com.dd.blog.domain.point.pointstore.entity.PointItemPurchase;
 import com.dd.blog.domain.point.pointstore.repository.PointItemPurchaseRepository;
 import com.dd.blog.domain.point.pointstore.repository.PointItemRepository;
-import com.dd.blog.domain.point.point.repository.PointHistoryRepository;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import jakarta.persistence.EntityNotFoundException;
@@ -27,16 +25,16 @@ public class PointStoreService {
     private final UserRepository userRepository;
     private final PointItemRepository pointItemRepository;
     private final PointItemPurchaseRepository pointItemPurchaseRepository;
-    private final PointHistoryRepository pointHistoryRepository;
+    private final PointLedgerService pointLedgerService;
 
     /**
      * [POST] /api/v1/pointstore/purchase
      * 포인트 아이템을 구매하는 서비스 로직
      * - 유저 존재 여부 검증
      * - 아이템 존재 여부 검증
-     * - 중복 구매 방지
-     * - 포인트 잔액 확인 후 차감
-     * - 구매 내역 및 포인트 히스토리 저장
+     * - 중복 구매 방지 (unique 제약 기반 INSERT IGNORE)
+     * - 잔액이 충분할 때만 조건부 UPDATE로 차감, 포인트 원장 기록
+     * - 확인과 변경이 각각 한 번의 원자적 쿼리라서 락 없이도 동시 구매 시 중복 구매/잔액 초과 사용 불가
      * @param userId 로그인한 유저의 ID
      * @param requestDto 구매 요청 정보 (itemId 포함)
      * @return 구매 결과 DTO
@@ -45,51 +43,33 @@ public class PointStoreService {
     public PointItemPurchaseResultDto purchaseItem(Long userId, PointItemPurchaseRequestDto requestDto) {
 
         // 유저, 아이템 조회; 없으면 예외발생
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new EntityNotFoundException("해당 유저가 존재하지 않습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("해당 유저가 존재하지 않습니다.");
+        }
 
         PointItem item = pointItemRepository.findById(requestDto.getItemId())
                 .orElseThrow(() -> new EntityNotFoundException("해당 아이템이 존재하지 않습니다."));
 
 
-        // 중복 구매 방지
-        if (pointItemPurchaseRepository.existsByUserAndItem(user, item)) {
+        // 구매 이력 저장 (이미 구매한 아이템이면 0)
+        if (pointItemPurchaseRepository.insertIgnore(userId, item.getId(), LocalDateTime.now()) == 0) {
             throw new IllegalStateException("이미 구매한 아이템입니다.");
         }
 
 
         int price = item.getPrice();
 
-        // 포인트 부족 검증
-        if (user.getRemainingPoint() < item.getPrice()) {
+        // 잔액 차감 및 포인트 원장 기록 (잔액 부족 시 예외 → 구매 이력도 롤백)
+        if (!pointLedgerService.spend(userId, price, "감소")) {
             throw new IllegalArgumentException("포인트가 부족합니다.");
         }
 
-        // 포인트 차감
-        user.setRemainingPoint(user.getRemainingPoint() - price);
-
-
-        // 구매 이력 저장
-        PointItemPurchase purchase = PointItemPurchase.builder()
-                .user(user)
-                .item(item)
-                .purchasedAt(LocalDateTime.now())
-                .build();
-        pointItemPurchaseRepository.save(purchase);
-
-
-        // 포인트 히스토리 저장 (감소)
-        PointHistory history = PointHistory.builder()
-                .user(user)
-                .pointChange(-price)
-                .type("감소")
-                .build();
-        pointHistoryRepository.save(history);
+        int remainingPoint = userRepository.findRemainingPointById(userId).orElse(0);
 
         return PointItemPurchaseResultDto.builder()
                 .itemName(item.getName())
                 .itemPrice(price)
-                .remainingPoint(user.getRemainingPoint())
+                .remainingPoint(remainingPoint)
                 .build();
     }
 
@@ -124,19 +104,26 @@ public class PointStoreService {
      * [검증용 내부 호출]
      * 해당 유저가 특정 아이템을 실제로 구매했는지 확인
      * (댓글, 이모티콘 등 외부 기능에서 사용 가능)
-     * @param user 로그인된 유저
-     * @param item 검증할 아이템
+     * @param userId 로그인된 유저 ID
+     * @param itemId 검증할 아이템 ID
      * @throws AccessDeniedException 구매하지 않은 경우 예외 발생
      */
-    public void validateUserOwnsItem(User user, PointItem item) {
-        boolean exists = pointItemPurchaseRepository.existsByUserAndItem(user, item);
+    @Transactional(readOnly = true)
+    public void validateUserOwnsItem(Long userId, Long itemId) {
+        boolean exists = pointItemPurchaseRepository.existsByUserIdAndItemId(userId, itemId);
         if (!exists) {
             throw new AccessDeniedException("해당 아이템을 구매하지 않았습니다.");
         }
     }
 
     @Transactional(readOnly = true)
-    public boolean checkUserOwnsItem(User user, PointItem item) {
-        return pointItemPurchaseRepository.existsByUserAndItem(user, item);
+    public boolean checkUserOwnsItem(Long userId, Long itemId) {
+        return pointItemPurchaseRepository.existsByUserIdAndItemId(userId, itemId);
+    }
+
+    // 중복 구매 행 정리 (point_item_purchase_uk 생성 전 데이터)
+    @Transactional
+    public int removeDuplicatePurchases() {
+        return pointItemPurchaseRepository.deleteDuplicates();
     }
 }
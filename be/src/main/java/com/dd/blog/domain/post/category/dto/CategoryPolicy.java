@@ -0,0 +1,31 @@
+package com.dd.blog.domain.post.category.dto;
+
+import com.dd.blog.domain.post.category.entity.Category;
+
+// 게시판별 정책 (불변, CategoryRegistry에서 조회)
+public record CategoryPolicy(
+        Long categoryId,
+        String categoryName,
+        boolean verificationBoard,
+        boolean imageRequired,
+        int dailyPostLimit,
+        boolean adminOnly,
+        int pointReward
+) {
+
+    public static CategoryPolicy from(Category category) {
+        return new CategoryPolicy(
+                category.getId(),
+                category.getCategoryName(),
+                Boolean.TRUE.equals(category.getVerificationBoard()),
+                Boolean.TRUE.equals(category.getImageRequired()),
+                category.getDailyPostLimit() != null ? category.getDailyPostLimit() : 0,
+                Boolean.TRUE.equals(category.getAdminOnly()),
+                category.getPointReward() != null ? category.getPointReward() : 0
+        );
+    }
+
+    public boolean hasDailyPostLimit() {
+        return dailyPostLimit > 0;
+    }
+}
@@ -16,6 +16,25 @@ public class Category extends BaseEntity {
     @Column(name = "category_name", nullable = false)
     private String categoryName; // 인증게시판, 자유게시판, 정보공유게시판
 
+    // 게시판 정책 (CategoryRegistry가 메모리에 올려서 사용, 비어 있으면 CategoryInitializer가 기본값으로 채움)
+    // 인증게시판 여부 (인증 요청 생성, 승인 시 포인트 지급)
+    @Column(name = "verification_board")
+    private Boolean verificationBoard;
+
+    @Column(name = "image_required")
+    private Boolean imageRequired;
+
+    // 하루 작성 가능 게시글 수 (0이면 제한 없음)
+    @Column(name = "daily_post_limit")
+    private Integer dailyPostLimit;
+
+    @Column(name = "admin_only")
+    private Boolean adminOnly;
+
+    // 게시글 작성 시 지급 포인트 (인증게시판은 승인 시 지급)
+    @Column(name = "point_reward")
+    private Integer pointReward;
+
     @OneToMany(mappedBy = "category")
     private List<Post> posts;
 
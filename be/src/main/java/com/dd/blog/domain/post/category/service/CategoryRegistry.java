@@ -0,0 +1,64 @@
+package com.dd.blog.domain.post.category.service;
+
+import com.dd.blog.domain.post.category.dto.CategoryPolicy;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.event.CategoryPolicyChangedEvent;
+import com.dd.blog.global.exception.ApiException;
+import com.dd.blog.global.exception.ErrorCode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 게시판 정책 레지스트리
+// 서버 시작 시 CategoryInitializer가 한 번 채우고, 요청마다 카테고리를 조회하지 않고 메모리에서 읽음
+// 관리자 변경 시 새 맵을 만들어 통째로 교체 (읽는 쪽은 항상 완전한 이전/새 맵 중 하나를 봄)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CategoryRegistry {
+
+    private final CategoryRepository categoryRepository;
+
+    private volatile Map<Long, CategoryPolicy> policies = Map.of();
+
+    public void reload() {
+        policies = categoryRepository.findAll().stream()
+                .map(CategoryPolicy::from)
+                .collect(Collectors.toUnmodifiableMap(CategoryPolicy::categoryId, Function.identity()));
+        log.info("게시판 정책 로딩: {}개", policies.size());
+    }
+
+    // 정책 변경이 커밋된 뒤 재로딩
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    @Transactional(propagation = Propagation.REQUIRES_NEW, readOnly = true)
+    public void handleCategoryPolicyChangedEvent(CategoryPolicyChangedEvent event) {
+        reload();
+    }
+
+    public Optional<CategoryPolicy> find(Long categoryId) {
+        return Optional.ofNullable(policies.get(categoryId));
+    }
+
+    public CategoryPolicy get(Long categoryId) {
+        return find(categoryId).orElseThrow(() -> new ApiException(ErrorCode.CATEGORY_NOT_FOUND));
+    }
+
+    public boolean isVerificationBoard(Long categoryId) {
+        CategoryPolicy policy = policies.get(categoryId);
+        return policy != null && policy.verificationBoard();
+    }
+
+    public Collection<CategoryPolicy> getAll() {
+        return policies.values();
+    }
+}
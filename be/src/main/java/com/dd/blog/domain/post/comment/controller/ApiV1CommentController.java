@@ -4,6 +4,7 @@ import com.dd.blog.domain.post.comment.dto.CommentRequestDto;
 import com.dd.blog.domain.post.comment.dto.CommentResponseDto;
 import com.dd.blog.domain.post.comment.dto.CommentUpdateResponseDto;
 import com.dd.blog.domain.post.comment.service.CommentService;
+import com.dd.blog.global.dto.CursorResponseDto;
 import com.dd.blog.global.security.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
@@ -56,6 +57,66 @@ public class ApiV1CommentController {
         return ResponseEntity.ok(comments);
     }
 
+    // READ
+    // 특정 사용자가 작성한 댓글 커서 기반 조회
+    @Operation(
+            summary = "사용자 댓글 커서 조회",
+            description = "사용자 ID를 통해 해당 사용자가 작성한 댓글을 최신순으로 커서 기반 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "404", description = "해당 사용자 없음")
+            }
+    )
+    @GetMapping("/user/{userId}/cursor")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getUserCommentsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size){
+        CursorResponseDto<CommentResponseDto> comments = commentService.getCommentsByUserIdCursor(userId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
+    // READ
+    // 특정 게시글의 최상위 댓글 커서 기반 조회
+    @Operation(
+            summary = "최상위 댓글 커서 조회",
+            description = "게시글의 최상위 댓글을 최신순으로 커서 기반 조회합니다. 답글은 replyCount만 포함되며 답글 조회 API로 따로 불러옵니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "404", description = "해당 게시글 없음")
+            }
+    )
+    @GetMapping("/post/{postId}/cursor")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getRootCommentsByCursor(
+            @PathVariable Long postId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size){
+        CursorResponseDto<CommentResponseDto> comments = commentService.getRootCommentsCursor(postId, cursor, size);
+        return ResponseEntity.ok(comments);
+    }
+
+    // READ
+    // 최상위 댓글의 답글 커서 기반 조회
+    @Operation(
+            summary = "답글 커서 조회",
+            description = "최상위 댓글에 달린 답글(대댓글의 답글 포함)을 트리 순서로 커서 기반 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서 또는 최상위 댓글이 아님"),
+                    @ApiResponse(responseCode = "404", description = "해당 댓글 없음")
+            }
+    )
+    @GetMapping("/{commentId}/replies")
+    public ResponseEntity<CursorResponseDto<CommentResponseDto>> getRepliesByCursor(
+            @PathVariable Long commentId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size){
+        CursorResponseDto<CommentResponseDto> replies = commentService.getRepliesCursor(commentId, cursor, size);
+        return ResponseEntity.ok(replies);
+    }
+
     // CREATE
     // 댓글, 대댓글
     @Operation(
@@ -22,6 +22,8 @@ public class CommentResponseDto {
     private String content;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
+    private int depth;
+    private int replyCount; // 최상위 댓글의 전체 답글 수
 
     public static CommentResponseDto fromEntity(Comment comment) {
         return CommentResponseDto.builder()
@@ -33,6 +35,8 @@ public class CommentResponseDto {
                 .content(comment.getContent())
                 .createdAt(comment.getCreatedAt())
                 .updatedAt(comment.getUpdatedAt())
+                .depth(comment.getDepth())
+                .replyCount(comment.getReplyCount())
                 .build();
     }
 }
\ No newline at end of file
@@ -13,19 +13,34 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@ToString
-@Table(name="comment")
+@ToString(exclude = {"post", "user", "parent"})
+// 댓글 목록용 fetch plan (작성자 닉네임만 필요, 게시글/부모 댓글은 ID만 사용)
+@NamedEntityGraph(
+        name = "Comment.withUser",
+        attributeNodes = @NamedAttributeNode("user")
+)
+@Table(
+        name = "comment",
+        indexes = {
+                // 사용자별 댓글 커서 페이징용 인덱스
+                @Index(name = "idx_comment_user_created_at_id", columnList = "user_id, created_at, id"),
+                // 게시글별 최상위 댓글 커서 페이징용 인덱스
+                @Index(name = "idx_comment_post_depth_created_at_id", columnList = "post_id, depth, created_at, id"),
+                // 스레드(최상위 댓글) 단위 답글 범위 조회용 인덱스
+                @Index(name = "idx_comment_root_path", columnList = "root_id, path")
+        }
+)
 public class Comment extends BaseEntity {
     //외래키
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="post_id")
     private Post post;
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id")
     private User user;
 
     //대댓글 (자기참조)
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="parent_id")
     private Comment parent;
 //    @OneToMany(mappedBy = "parent", cascade = CascadeType.ALL)
@@ -33,4 +48,39 @@ public class Comment extends BaseEntity {
 
     @Column(name = "content", nullable = false, length=100)
     private String content;
+
+    // 스레드 구조 (materialized path)
+    // path: 최상위 댓글부터 자신까지의 ID를 0으로 채워 이어붙인 값 → path 순 정렬이 곧 트리 순서
+    public static final String PATH_DELIMITER = "/";
+    public static final int MAX_DEPTH = 40;
+    private static final String PATH_SEGMENT_FORMAT = "%010d";
+
+    // 최상위 댓글 ID (최상위 댓글은 자기 자신)
+    @Column(name = "root_id")
+    private Long rootId;
+
+    @Column(name = "path", length = 500)
+    private String path;
+
+    @Column(name = "depth", nullable = false)
+    private int depth;
+
+    // 스레드 전체 답글 수 (최상위 댓글에서만 사용, 원자적 UPDATE로만 변경)
+    @Column(name = "reply_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int replyCount = 0;
+
+    // 저장 후 ID가 생긴 다음 호출 (부모는 이미 path가 있어야 함)
+    public void attachToThread() {
+        String segment = String.format(PATH_SEGMENT_FORMAT, getId());
+        if (parent == null) {
+            rootId = getId();
+            depth = 0;
+            path = segment;
+        } else {
+            rootId = parent.getRootId();
+            depth = parent.getDepth() + 1;
+            path = parent.getPath() + PATH_DELIMITER + segment;
+        }
+    }
 }
@@ -1,14 +1,57 @@
 package com.dd.blog.domain.post.comment.repository;
 
 import com.dd.blog.domain.post.comment.entity.Comment;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.LongSummaryStatistics;
 import java.util.Optional;
 
 public interface CommentRepository extends JpaRepository<Comment,Long> {
+    @EntityGraph("Comment.withUser")
     List<Comment> findByPostId(Long post_id);
 //    List<Comment> findByParentId(Long parent_id);
+    @EntityGraph("Comment.withUser")
     List<Comment> findByUserId(Long userId);
+
+    // 특정 사용자의 댓글 커서 기반 페이징 (createdAt, id 내림차순)
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.user.id = :userId " +
+            "  AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    @EntityGraph("Comment.withUser")
+    List<Comment> findNextPageByUserOrderByCreatedAt(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 게시글의 최상위 댓글 커서 기반 페이징 (createdAt, id 내림차순)
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.post.id = :postId AND c.depth = 0 " +
+            "  AND (c.createdAt < :createdAt OR (c.createdAt = :createdAt AND c.id < :id)) " +
+            "ORDER BY c.createdAt DESC, c.id DESC")
+    @EntityGraph("Comment.withUser")
+    List<Comment> findNextRootPageByPost(@Param("postId") Long postId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 스레드의 답글을 트리 순서로 조회 (root_id, path 인덱스 범위 조회 한 번)
+    @Query("SELECT c FROM Comment c " +
+            "WHERE c.rootId = :rootId AND c.depth > 0 AND c.path > :afterPath " +
+            "ORDER BY c.path ASC")
+    @EntityGraph("Comment.withUser")
+    List<Comment> findNextReplyPage(@Param("rootId") Long rootId, @Param("afterPath") String afterPath, Pageable pageable);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount + 1 WHERE c.id = :rootId")
+    int increaseReplyCount(@Param("rootId") Long rootId);
+
+    @Modifying
+    @Query("UPDATE Comment c SET c.replyCount = c.replyCount - 1 WHERE c.id = :rootId AND c.replyCount > 0")
+    int decreaseReplyCount(@Param("rootId") Long rootId);
+
+    // 스레드 정보가 없는 기존 댓글 (ID 순 → 부모가 항상 먼저 처리됨)
+    @Query("SELECT c FROM Comment c WHERE c.path IS NULL AND c.id > :lastId ORDER BY c.id ASC")
+    List<Comment> findWithoutPathAfterId(@Param("lastId") Long lastId, Pageable pageable);
 }
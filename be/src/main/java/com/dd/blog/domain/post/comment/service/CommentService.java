@@ -8,18 +8,30 @@ import com.dd.blog.domain.post.comment.repository.CommentRepository;
 import com.dd.blog.domain.post.post.dto.PostResponseDto;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
+import com.dd.blog.domain.post.ranking.service.PostRankingService;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.global.dto.CursorResponseDto;
+import com.dd.blog.global.exception.ApiException;
+import com.dd.blog.global.exception.ErrorCode;
+import com.dd.blog.global.utils.CursorUtil;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.security.access.AccessDeniedException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 
 import java.util.List;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class CommentService {
@@ -27,14 +39,20 @@ public class CommentService {
     private final PostRepository postRepository;
     private final CommentRepository commentRepository;
     private final UserRepository userRepository;
+    private final PostRankingService postRankingService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PlatformTransactionManager transactionManager;
+
+    private static final int THREAD_BACKFILL_BATCH_SIZE = 500;
 
 
     // READ
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getAllComments(Long postId){
         // 댓글과 대댓글은 프론트에서 parentId를 활용하여 계층구조처럼 보이게 설정 가능(백엔드에서는 모든댓글을 return)
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new EntityNotFoundException("게시글을 찾을 수 없습니다."));
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+        }
 
         List<Comment> comments = commentRepository.findByPostId(postId);
 
@@ -58,6 +76,10 @@ public class CommentService {
         if (commentRequestDto.getParentId() != null) {
             parentComment = commentRepository.findById(commentRequestDto.getParentId())
                     .orElseThrow(() -> new EntityNotFoundException("부모 댓글을 찾을 수 없습니다."));
+            // 다른 게시글의 댓글이거나 최대 깊이에 도달한 댓글에는 답글 불가
+            if (!parentComment.getPost().getId().equals(postId) || parentComment.getDepth() >= Comment.MAX_DEPTH) {
+                throw new ApiException(ErrorCode.INVALID_PARENT_COMMENT);
+            }
         }
 
         Comment newComment = Comment.builder()
@@ -68,6 +90,13 @@ public class CommentService {
                 .build();
 
         commentRepository.save(newComment);
+        newComment.attachToThread();
+        if (parentComment != null) {
+            commentRepository.increaseReplyCount(newComment.getRootId());
+        }
+        postRepository.increaseCommentCount(postId);
+        postRankingService.recordComment(post);
+        postDetailCacheService.evict(postId);
         return CommentResponseDto.fromEntity(newComment);
     };
 
@@ -102,9 +131,96 @@ public class CommentService {
         if (comment.getParent() != null) {
             comment.setParent(null); // 부모 댓글을 null로 설정해서 관계를 끊음
         }
+        if (comment.getDepth() > 0 && comment.getRootId() != null) {
+            commentRepository.decreaseReplyCount(comment.getRootId());
+        }
         commentRepository.delete(comment);
+        postRepository.decreaseCommentCount(comment.getPost().getId());
+        postDetailCacheService.evict(comment.getPost().getId());
     };
 
+    // 게시글의 최상위 댓글 커서 기반 조회 (최신순, 답글은 replyCount만 포함)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getRootCommentsCursor(Long postId, String cursor, int size) {
+        if (!postRepository.existsById(postId)) {
+            throw new EntityNotFoundException("게시글을 찾을 수 없습니다.");
+        }
+
+        size = CursorUtil.clampSize(size);
+        CursorUtil.CreatedAtCursor key = CursorUtil.decodeCreatedAt(cursor);
+        List<Comment> comments = commentRepository.findNextRootPageByPost(
+                postId, key.createdAt(), key.id(), PageRequest.of(0, size + 1)); // 다음 페이지 확인용 1개 더 조회
+
+        boolean hasNext = comments.size() > size;
+        List<Comment> content = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(new CursorUtil.CreatedAtCursor(last.getCreatedAt(), last.getId()));
+        }
+
+        return new CursorResponseDto<>(
+                content.stream().map(CommentResponseDto::fromEntity).collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
+    }
+
+    // 최상위 댓글의 답글 커서 기반 조회 (트리 순서, 각 답글의 depth로 들여쓰기)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getRepliesCursor(Long commentId, String cursor, int size) {
+        Comment root = commentRepository.findById(commentId)
+                .orElseThrow(() -> new EntityNotFoundException("댓글을 찾을 수 없습니다."));
+        if (root.getDepth() != 0) {
+            throw new ApiException(ErrorCode.NOT_ROOT_COMMENT);
+        }
+
+        size = CursorUtil.clampSize(size);
+        String afterPath = CursorUtil.decodePath(cursor);
+        List<Comment> replies = commentRepository.findNextReplyPage(root.getId(), afterPath, PageRequest.of(0, size + 1));
+
+        boolean hasNext = replies.size() > size;
+        List<Comment> content = hasNext ? replies.subList(0, size) : replies;
+        String nextCursor = hasNext ? CursorUtil.encodePath(content.get(content.size() - 1).getPath()) : null;
+
+        return new CursorResponseDto<>(
+                content.stream().map(CommentResponseDto::fromEntity).collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
+    }
+
+    // 스레드 정보가 없는 기존 댓글 보정 (배치 단위로 나눠서 커밋)
+    public int backfillThreads() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            final long afterId = lastId;
+            List<Comment> comments = transactionTemplate.execute(status -> {
+                List<Comment> batch = commentRepository.findWithoutPathAfterId(afterId, PageRequest.of(0, THREAD_BACKFILL_BATCH_SIZE));
+                for (Comment comment : batch) {
+                    comment.attachToThread();
+                    if (comment.getParent() != null) {
+                        commentRepository.increaseReplyCount(comment.getRootId());
+                    }
+                }
+                return batch;
+            });
+            if (comments == null || comments.isEmpty()) {
+                return total;
+            }
+            total += comments.size();
+            lastId = comments.get(comments.size() - 1).getId();
+        }
+    }
+
+    // 게시글 댓글 수 보정 (매일 새벽 4시 30분)
+    @Scheduled(cron = "0 30 4 * * *")
+    @Transactional
+    public void reconcileCommentCounts() {
+        int updated = postRepository.reconcileCommentCounts();
+        log.info("댓글 수 보정 게시글 {}건", updated);
+    }
+
     // 특정 사용자의 모든 댓글 조회
     @Transactional(readOnly = true)
     public List<CommentResponseDto> getCommentsByUserId(Long userId) {
@@ -120,4 +236,30 @@ public class CommentService {
                 .map(CommentResponseDto::fromEntity)
                 .collect(Collectors.toList());
     }
+
+    // 특정 사용자의 댓글 커서 기반 조회 (최신순)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<CommentResponseDto> getCommentsByUserIdCursor(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new EntityNotFoundException("사용자를 찾을 수 없습니다.");
+        }
+
+        size = CursorUtil.clampSize(size);
+        CursorUtil.CreatedAtCursor key = CursorUtil.decodeCreatedAt(cursor);
+        List<Comment> comments = commentRepository.findNextPageByUserOrderByCreatedAt(
+                userId, key.createdAt(), key.id(), PageRequest.of(0, size + 1)); // 다음 페이지 확인용 1개 더 조회
+
+        boolean hasNext = comments.size() > size;
+        List<Comment> content = hasNext ? comments.subList(0, size) : comments;
+        String nextCursor = null;
+        if (hasNext) {
+            Comment last = content.get(content.size() - 1);
+            nextCursor = CursorUtil.encode(new CursorUtil.CreatedAtCursor(last.getCreatedAt(), last.getId()));
+        }
+
+        return new CursorResponseDto<>(
+                content.stream().map(CommentResponseDto::fromEntity).collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
+    }
 }
@@ -0,0 +1,18 @@
+package com.dd.blog.domain.post.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 관리자가 게시판 정책을 변경했을 때 발생되는 이벤트 객체
+
+@Getter
+public class CategoryPolicyChangedEvent extends ApplicationEvent {
+
+    private final Long categoryId;
+
+    public CategoryPolicyChangedEvent(Object source, Long categoryId) {
+        super(source);
+        this.categoryId = categoryId;
+    }
+
+}
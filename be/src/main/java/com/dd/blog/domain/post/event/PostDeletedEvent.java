@@ -0,0 +1,18 @@
+package com.dd.blog.domain.post.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 게시글 삭제시 발생되는 이벤트 객체 (사용자 삭제, 관리자 삭제 모두)
+
+@Getter
+public class PostDeletedEvent extends ApplicationEvent {
+
+    private final Long postId;
+
+    public PostDeletedEvent(Object source, Long postId) {
+        super(source);
+        this.postId = postId;
+    }
+
+}
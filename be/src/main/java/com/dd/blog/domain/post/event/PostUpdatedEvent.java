@@ -0,0 +1,19 @@
+package com.dd.blog.domain.post.event;
+
+import com.dd.blog.domain.post.post.entity.Post;
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 게시글 수정시 발생되는 이벤트 객체
+
+@Getter
+public class PostUpdatedEvent extends ApplicationEvent {
+
+    private final Post post;
+
+    public PostUpdatedEvent(Object source, Post post) {
+        super(source);
+        this.post = post;
+    }
+
+}
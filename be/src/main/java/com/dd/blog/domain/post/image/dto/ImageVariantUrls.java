@@ -0,0 +1,8 @@
+package com.dd.blog.domain.post.image.dto;
+
+// 목록 화면용 작은 이미지 URL
+public record ImageVariantUrls(
+        String thumbnailUrl,
+        String mediumUrl
+) {
+}
@@ -0,0 +1,46 @@
+package com.dd.blog.domain.post.image.entity;
+
+import com.dd.blog.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// 업로드된 S3 객체의 내용 해시 색인 (같은 내용의 파일은 기존 객체 재사용)
+// 디렉토리별로 구분 (post/ 경로 이미지는 표시용 목록에서 제외되므로 섞이면 안 됨)
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "image_object",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "uk_image_object_dir_hash", columnNames = {"dir_name", "content_hash"})
+        },
+        indexes = {
+                @Index(name = "idx_image_object_image_url", columnList = "image_url")
+        }
+)
+public class ImageObject extends BaseEntity {
+
+    @Column(name = "dir_name", nullable = false, length = 50)
+    private String dirName;
+
+    // SHA-256 (hex)
+    @Column(name = "content_hash", nullable = false, length = 64)
+    private String contentHash;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Column(name = "image_url", nullable = false, length = 500)
+    private String imageUrl;
+
+    @Column(name = "content_length", nullable = false)
+    private long contentLength;
+
+    // 이 객체를 사용 중인 업로드 수 (트랜잭션 실패로 반납되어 0이 되면 색인과 S3 객체 삭제)
+    @Column(name = "ref_count", nullable = false)
+    @Builder.Default
+    private int refCount = 1;
+}
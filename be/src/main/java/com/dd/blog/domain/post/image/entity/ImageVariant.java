@@ -0,0 +1,62 @@
+package com.dd.blog.domain.post.image.entity;
+
+import com.dd.blog.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// 업로드 이미지의 변환 작업 겸 결과 (썸네일/중간 크기)
+// 작업 상태를 DB에 저장하므로 서버가 재시작되어도 남은 작업을 이어서 처리
+@Entity
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@SuperBuilder
+@Table(
+        name = "image_variant",
+        indexes = {
+                @Index(name = "idx_image_variant_status_id", columnList = "status, id")
+        }
+)
+public class ImageVariant extends BaseEntity {
+
+    @Column(name = "original_url", nullable = false, unique = true, length = 500)
+    private String originalUrl;
+
+    @Column(name = "object_key", nullable = false, length = 500)
+    private String objectKey;
+
+    @Enumerated(EnumType.STRING)
+    @Column(nullable = false, length = 20)
+    private ImageVariantStatus status;
+
+    @Column(nullable = false)
+    private int attempts;
+
+    @Column(name = "thumbnail_url", length = 500)
+    private String thumbnailUrl;
+
+    @Column(name = "medium_url", length = 500)
+    private String mediumUrl;
+
+    @Column(name = "last_error", length = 255)
+    private String lastError;
+
+    public void startProcessing() {
+        this.status = ImageVariantStatus.PROCESSING;
+        this.attempts++;
+    }
+
+    public void complete(String thumbnailUrl, String mediumUrl) {
+        this.status = ImageVariantStatus.DONE;
+        this.thumbnailUrl = thumbnailUrl;
+        this.mediumUrl = mediumUrl;
+        this.lastError = null;
+    }
+
+    // 최대 시도 횟수 전까지는 다시 대기 상태로
+    public void fail(String error, int maxAttempts) {
+        this.status = attempts >= maxAttempts ? ImageVariantStatus.FAILED : ImageVariantStatus.PENDING;
+        this.lastError = error != null && error.length() > 255 ? error.substring(0, 255) : error;
+    }
+}
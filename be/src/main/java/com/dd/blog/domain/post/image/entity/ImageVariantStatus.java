@@ -0,0 +1,8 @@
+package com.dd.blog.domain.post.image.entity;
+
+public enum ImageVariantStatus {
+    PENDING,
+    PROCESSING,
+    DONE,
+    FAILED
+}
@@ -0,0 +1,33 @@
+package com.dd.blog.domain.post.image.repository;
+
+import com.dd.blog.domain.post.image.entity.ImageObject;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Optional;
+
+public interface ImageObjectRepository extends JpaRepository<ImageObject, Long> {
+
+    Optional<ImageObject> findByDirNameAndContentHash(String dirName, String contentHash);
+
+    // 기존 객체 재사용 (행 잠금으로 동시 반납과 직렬화)
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount + 1 WHERE o.dirName = :dirName AND o.contentHash = :contentHash")
+    int increaseRefCount(@Param("dirName") String dirName, @Param("contentHash") String contentHash);
+
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = o.refCount - 1 WHERE o.imageUrl = :imageUrl")
+    int decreaseRefCount(@Param("imageUrl") String imageUrl);
+
+    // 더 이상 사용하는 업로드가 없는 객체 색인 삭제
+    @Modifying
+    @Query("DELETE FROM ImageObject o WHERE o.imageUrl = :imageUrl AND o.refCount <= 0")
+    int deleteUnreferenced(@Param("imageUrl") String imageUrl);
+
+    // ref_count 컬럼 추가 전 등록된 객체는 이미 게시글이 사용 중
+    @Modifying
+    @Query("UPDATE ImageObject o SET o.refCount = 1 WHERE o.refCount <= 0")
+    int initializeLegacyRefCounts();
+}
@@ -0,0 +1,34 @@
+package com.dd.blog.domain.post.image.repository;
+
+import com.dd.blog.domain.post.image.entity.ImageVariant;
+import com.dd.blog.domain.post.image.entity.ImageVariantStatus;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Optional;
+
+public interface ImageVariantRepository extends JpaRepository<ImageVariant, Long> {
+
+    boolean existsByOriginalUrl(String originalUrl);
+
+    Optional<ImageVariant> findByOriginalUrl(String originalUrl);
+
+    @Modifying
+    @Query("DELETE FROM ImageVariant v WHERE v.originalUrl = :originalUrl")
+    int deleteByOriginalUrl(@Param("originalUrl") String originalUrl);
+
+    // 대기 중인 작업을 등록 순서대로 조회
+    List<ImageVariant> findByStatusOrderByIdAsc(ImageVariantStatus status, Pageable pageable);
+
+    List<ImageVariant> findByOriginalUrlInAndStatus(Collection<String> originalUrls, ImageVariantStatus status);
+
+    // 처리 도중 서버가 종료되어 남은 작업을 대기 상태로 되돌림
+    @Modifying
+    @Query("UPDATE ImageVariant v SET v.status = :to WHERE v.status = :from")
+    int updateStatus(@Param("from") ImageVariantStatus from, @Param("to") ImageVariantStatus to);
+}
@@ -0,0 +1,53 @@
+package com.dd.blog.domain.post.image.service;
+
+import com.dd.blog.domain.post.image.entity.ImageObject;
+import com.dd.blog.domain.post.image.repository.ImageObjectRepository;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.Optional;
+
+// 내용 해시 → S3 객체 색인 (업로드 중복 제거용)
+// 업로드는 게시글 저장 트랜잭션과 별개이므로 항상 독립된 트랜잭션으로 처리
+@Service
+@RequiredArgsConstructor
+public class ImageObjectService {
+
+    private final ImageObjectRepository imageObjectRepository;
+
+    // 같은 내용의 기존 객체를 사용하겠다고 등록하고 URL 반환 (반납 시 release 호출)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public Optional<String> claimImageUrl(String dirName, String contentHash) {
+        if (imageObjectRepository.increaseRefCount(dirName, contentHash) == 0) {
+            return Optional.empty();
+        }
+        return imageObjectRepository.findByDirNameAndContentHash(dirName, contentHash)
+                .map(ImageObject::getImageUrl);
+    }
+
+    // 같은 내용이 동시에 등록되면 유니크 제약으로 DataIntegrityViolationException 발생
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void register(String dirName, String contentHash, String objectKey, String imageUrl, long contentLength) {
+        imageObjectRepository.saveAndFlush(ImageObject.builder()
+                .dirName(dirName)
+                .contentHash(contentHash)
+                .objectKey(objectKey)
+                .imageUrl(imageUrl)
+                .contentLength(contentLength)
+                .build());
+    }
+
+    // 사용 반납, 다른 업로드가 사용 중이 아니면 색인을 지우고 true 반환 (호출한 쪽에서 S3 객체 삭제)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public boolean release(String imageUrl) {
+        imageObjectRepository.decreaseRefCount(imageUrl);
+        return imageObjectRepository.deleteUnreferenced(imageUrl) > 0;
+    }
+
+    @Transactional
+    public int initializeLegacyRefCounts() {
+        return imageObjectRepository.initializeLegacyRefCounts();
+    }
+}
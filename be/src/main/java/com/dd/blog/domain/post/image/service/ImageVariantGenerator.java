@@ -0,0 +1,135 @@
+package com.dd.blog.domain.post.image.service;
+
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
+import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.model.S3Object;
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import javax.imageio.IIOImage;
+import javax.imageio.ImageIO;
+import javax.imageio.ImageWriteParam;
+import javax.imageio.ImageWriter;
+import javax.imageio.stream.ImageOutputStream;
+import java.awt.*;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.UUID;
+
+// 원본 이미지를 내려받아 썸네일/중간 크기 JPEG로 다시 인코딩 (EXIF 등 메타데이터는 옮기지 않음)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantGenerator {
+
+    private static final int THUMBNAIL_WIDTH = 320;
+    private static final int MEDIUM_WIDTH = 1080;
+    private static final float JPEG_QUALITY = 0.8f;
+
+    private final AmazonS3 amazonS3;
+
+    @Value("${cloud.aws.s3.bucket}")
+    private String bucket;
+
+    public ImageVariantUrls generate(String objectKey) throws IOException {
+        BufferedImage source;
+        try (S3Object object = amazonS3.getObject(bucket, objectKey);
+             InputStream inputStream = object.getObjectContent()) {
+            source = ImageIO.read(inputStream);
+        }
+        if (source == null) {
+            throw new IOException("지원하지 않는 이미지 형식입니다.");
+        }
+
+        String name = UUID.randomUUID() + ".jpg";
+        String thumbnailUrl = put("variants/thumbnail/" + name, encodeJpeg(resize(source, THUMBNAIL_WIDTH)));
+        String mediumUrl = put("variants/medium/" + name, encodeJpeg(resize(source, MEDIUM_WIDTH)));
+        return new ImageVariantUrls(thumbnailUrl, mediumUrl);
+    }
+
+    // 가로 기준 축소 (원본이 더 작으면 크기 유지), 절반씩 줄여서 계단 현상 완화
+    private BufferedImage resize(BufferedImage source, int maxWidth) {
+        int targetWidth = Math.min(maxWidth, source.getWidth());
+        int targetHeight = Math.max(1, (int) Math.round((double) source.getHeight() * targetWidth / source.getWidth()));
+
+        BufferedImage current = source;
+        int width = source.getWidth();
+        int height = source.getHeight();
+        do {
+            width = Math.max(targetWidth, width / 2);
+            height = Math.max(targetHeight, height / 2);
+            current = draw(current, width, height);
+        } while (width != targetWidth || height != targetHeight);
+        return current;
+    }
+
+    // 투명 배경은 흰색으로 채워 RGB로 변환
+    private BufferedImage draw(BufferedImage source, int width, int height) {
+        BufferedImage target = new BufferedImage(width, height, BufferedImage.TYPE_INT_RGB);
+        Graphics2D graphics = target.createGraphics();
+        try {
+            graphics.setRenderingHint(RenderingHints.KEY_INTERPOLATION, RenderingHints.VALUE_INTERPOLATION_BILINEAR);
+            graphics.setColor(Color.WHITE);
+            graphics.fillRect(0, 0, width, height);
+            graphics.drawImage(source, 0, 0, width, height, null);
+        } finally {
+            graphics.dispose();
+        }
+        return target;
+    }
+
+    private byte[] encodeJpeg(BufferedImage image) throws IOException {
+        ImageWriter writer = ImageIO.getImageWritersByFormatName("jpeg").next();
+        ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+        try (ImageOutputStream imageOutputStream = ImageIO.createImageOutputStream(outputStream)) {
+            ImageWriteParam param = writer.getDefaultWriteParam();
+            param.setCompressionMode(ImageWriteParam.MODE_EXPLICIT);
+            param.setCompressionQuality(JPEG_QUALITY);
+            param.setProgressiveMode(ImageWriteParam.MODE_DEFAULT);
+            writer.setOutput(imageOutputStream);
+            writer.write(null, new IIOImage(image, null, null), param);
+        } finally {
+            writer.dispose();
+        }
+        return outputStream.toByteArray();
+    }
+
+    // 변환 이미지 삭제 (원본 삭제 시 정리용, 실패해도 예외를 던지지 않음)
+    public void delete(ImageVariantUrls urls) {
+        for (String url : new String[]{urls.thumbnailUrl(), urls.mediumUrl()}) {
+            if (url == null) continue;
+            try {
+                amazonS3.deleteObject(bucket, extractKey(url));
+            } catch (Exception e) {
+                log.warn("변환 이미지 삭제 실패: {}", url, e);
+            }
+        }
+    }
+
+    // virtual-hosted 형식(/key)과 path-style 형식(/bucket/key) URL 모두 처리
+    private String extractKey(String imageUrl) {
+        String path = URI.create(imageUrl).getRawPath();
+        String key = URLDecoder.decode(path.startsWith("/") ? path.substring(1) : path, StandardCharsets.UTF_8);
+        return key.startsWith(bucket + "/") ? key.substring(bucket.length() + 1) : key;
+    }
+
+    private String put(String objectKey, byte[] bytes) {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(bytes.length);
+        metadata.setContentType("image/jpeg");
+        amazonS3.putObject(new PutObjectRequest(bucket, objectKey, new ByteArrayInputStream(bytes), metadata)
+                .withCannedAcl(CannedAccessControlList.PublicRead));
+        return amazonS3.getUrl(bucket, objectKey).toString();
+    }
+}
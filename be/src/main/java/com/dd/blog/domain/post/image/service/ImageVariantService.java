@@ -0,0 +1,183 @@
+package com.dd.blog.domain.post.image.service;
+
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
+import com.dd.blog.domain.post.image.entity.ImageVariant;
+import com.dd.blog.domain.post.image.entity.ImageVariantStatus;
+import com.dd.blog.domain.post.image.repository.ImageVariantRepository;
+import com.dd.blog.global.aws.ImageDeletedEvent;
+import com.dd.blog.global.aws.ImageUploadedEvent;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.*;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+
+// 업로드 이미지 변환 파이프라인
+// 업로드 시 작업을 DB에 등록하고, 주기적으로 대기 작업을 가져와 제한된 워커 풀에서 처리
+@Slf4j
+@Service
+public class ImageVariantService {
+
+    // 목록/상세에 표시되는 게시글 이미지만 변환 (프로필 이미지, 표시하지 않는 post/ 이미지 제외)
+    private static final Set<String> VARIANT_DIRS = Set.of("images");
+    private static final int WORKER_COUNT = 2;
+    private static final int MAX_IN_FLIGHT = WORKER_COUNT * 2;
+    private static final int MAX_ATTEMPTS = 3;
+
+    private final ImageVariantRepository imageVariantRepository;
+    private final ImageVariantGenerator imageVariantGenerator;
+    private final TransactionTemplate transactionTemplate;
+
+    private final AtomicInteger inFlight = new AtomicInteger();
+    // 시작 시 복구가 끝나기 전에는 작업을 가져가지 않음
+    private volatile boolean recovered = false;
+    private final ThreadPoolExecutor executor;
+
+    public ImageVariantService(ImageVariantRepository imageVariantRepository, ImageVariantGenerator imageVariantGenerator,
+                               PlatformTransactionManager transactionManager) {
+        this.imageVariantRepository = imageVariantRepository;
+        this.imageVariantGenerator = imageVariantGenerator;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+
+        AtomicInteger threadNumber = new AtomicInteger();
+        this.executor = new ThreadPoolExecutor(WORKER_COUNT, WORKER_COUNT, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(MAX_IN_FLIGHT),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "image-variant-" + threadNumber.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                });
+    }
+
+    // 업로드 직후 변환 작업 등록
+    @EventListener
+    public void handleImageUploadedEvent(ImageUploadedEvent event) {
+        if (!VARIANT_DIRS.contains(event.getDirName())) {
+            return;
+        }
+        try {
+            transactionTemplate.executeWithoutResult(status -> {
+                if (imageVariantRepository.existsByOriginalUrl(event.getImageUrl())) {
+                    return;
+                }
+                imageVariantRepository.save(ImageVariant.builder()
+                        .originalUrl(event.getImageUrl())
+                        .objectKey(event.getObjectKey())
+                        .status(ImageVariantStatus.PENDING)
+                        .attempts(0)
+                        .build());
+            });
+        } catch (Exception e) {
+            // 작업 등록 실패가 업로드 자체를 실패시키지 않도록 함 (목록에서는 원본 이미지 사용)
+            log.warn("이미지 변환 작업 등록 실패: {} ({})", event.getImageUrl(), e.getMessage());
+        }
+    }
+
+    // 원본이 삭제되면 변환 작업 취소 및 이미 만들어진 변환 이미지 삭제
+    // 처리 중이던 작업은 완료 시 행이 없으므로 process()에서 만든 이미지를 삭제
+    @EventListener
+    public void handleImageDeletedEvent(ImageDeletedEvent event) {
+        try {
+            Optional<ImageVariantUrls> generated = transactionTemplate.execute(status -> {
+                Optional<ImageVariant> variant = imageVariantRepository.findByOriginalUrl(event.getImageUrl());
+                variant.ifPresent(imageVariantRepository::delete);
+                return variant.filter(v -> v.getThumbnailUrl() != null || v.getMediumUrl() != null)
+                        .map(v -> new ImageVariantUrls(v.getThumbnailUrl(), v.getMediumUrl()));
+            });
+            if (generated != null) {
+                generated.ifPresent(imageVariantGenerator::delete);
+            }
+        } catch (Exception e) {
+            log.warn("이미지 변환 작업 취소 실패: {}", event.getImageUrl(), e);
+        }
+    }
+
+    // 처리 중이던 작업을 대기 상태로 복구 (서버 시작 시)
+    public int recoverInterruptedJobs() {
+        Integer count = transactionTemplate.execute(status ->
+                imageVariantRepository.updateStatus(ImageVariantStatus.PROCESSING, ImageVariantStatus.PENDING));
+        recovered = true;
+        return count != null ? count : 0;
+    }
+
+    // 워커 여유만큼 대기 작업을 가져와 처리
+    @Scheduled(fixedDelay = 2000)
+    public void dispatch() {
+        int capacity = MAX_IN_FLIGHT - inFlight.get();
+        if (!recovered || capacity <= 0) {
+            return;
+        }
+
+        List<ImageVariant> jobs = transactionTemplate.execute(status -> {
+            List<ImageVariant> pending = imageVariantRepository.findByStatusOrderByIdAsc(
+                    ImageVariantStatus.PENDING, PageRequest.of(0, capacity));
+            pending.forEach(ImageVariant::startProcessing);
+            return pending;
+        });
+        if (jobs == null) {
+            return;
+        }
+
+        for (ImageVariant job : jobs) {
+            inFlight.incrementAndGet();
+            executor.execute(() -> {
+                try {
+                    process(job.getId(), job.getObjectKey());
+                } finally {
+                    inFlight.decrementAndGet();
+                }
+            });
+        }
+    }
+
+    private void process(Long jobId, String objectKey) {
+        ImageVariantUrls urls;
+        try {
+            urls = imageVariantGenerator.generate(objectKey);
+        } catch (Exception e) {
+            log.warn("이미지 변환 실패 (작업 {}): {}", jobId, e.getMessage());
+            transactionTemplate.executeWithoutResult(status -> imageVariantRepository.findById(jobId)
+                    .ifPresent(job -> job.fail(e.getMessage(), MAX_ATTEMPTS)));
+            return;
+        }
+        Boolean completed = transactionTemplate.execute(status -> imageVariantRepository.findById(jobId)
+                .map(job -> {
+                    job.complete(urls.thumbnailUrl(), urls.mediumUrl());
+                    return true;
+                })
+                .orElse(false));
+        if (!Boolean.TRUE.equals(completed)) {
+            // 처리 중 원본이 삭제되어 작업이 취소됨
+            imageVariantGenerator.delete(urls);
+        }
+    }
+
+    // 원본 URL → 변환 이미지 URL (변환이 끝난 것만)
+    public Map<String, ImageVariantUrls> getVariants(Collection<String> originalUrls) {
+        Set<String> urls = originalUrls.stream()
+                .filter(Objects::nonNull)
+                .collect(Collectors.toSet());
+        if (urls.isEmpty()) {
+            return Map.of();
+        }
+        return imageVariantRepository.findByOriginalUrlInAndStatus(urls, ImageVariantStatus.DONE).stream()
+                .collect(Collectors.toMap(ImageVariant::getOriginalUrl,
+                        variant -> new ImageVariantUrls(variant.getThumbnailUrl(), variant.getMediumUrl())));
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        // 끝나지 않은 작업은 PROCESSING으로 남고 다음 시작 시 복구됨
+        executor.shutdownNow();
+    }
+}
@@ -4,6 +4,7 @@ import com.dd.blog.domain.post.post.dto.PostPatchRequestDto;
 import com.dd.blog.domain.post.post.dto.PostRequestDto;
 import com.dd.blog.domain.post.post.dto.PostResponseDto;
 import com.dd.blog.domain.post.post.service.PostService;
+import com.dd.blog.global.dto.CursorResponseDto;
 import com.dd.blog.global.security.SecurityUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
@@ -74,8 +75,11 @@ public class ApiV1PostController {
             }
     )
     @GetMapping
-    public ResponseEntity<List<PostResponseDto>> getAllPosts(){
+    public ResponseEntity<List<PostResponseDto>> getAllPosts(
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
         List<PostResponseDto> posts = postService.getAllPosts();
+        applyViewer(posts, viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -90,8 +94,11 @@ public class ApiV1PostController {
     )
     @GetMapping("/category/{categoryId}")
     public ResponseEntity<List<PostResponseDto>> getPostsByCategory(
-            @Parameter(description = "카테고리 ID", required = true) @PathVariable Long categoryId){
+            @Parameter(description = "카테고리 ID", required = true) @PathVariable Long categoryId,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
         List<PostResponseDto> posts = postService.getPostsByCategory(categoryId);
+        applyViewer(posts, viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -106,8 +113,11 @@ public class ApiV1PostController {
     )
     @GetMapping("/following/{userId}")
     public ResponseEntity<List<PostResponseDto>> getPostsByFollowing(
-            @Parameter(description = "유저 ID", required = true) @PathVariable Long userId) {
+            @Parameter(description = "유저 ID", required = true) @PathVariable Long userId,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
         List<PostResponseDto> posts = postService.getPostsByFollowing(userId);
+        applyViewer(posts, viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -124,7 +134,9 @@ public class ApiV1PostController {
             @Parameter(description = "유저 ID", required = true) @PathVariable Long userId,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
 
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -133,6 +145,7 @@ public class ApiV1PostController {
                 : Sort.Direction.DESC;
 
         Page<PostResponseDto> posts = postService.getPostsByFollowingPageable(userId, page, size, sortField, direction);
+        applyViewer(posts.getContent(), viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -149,7 +162,9 @@ public class ApiV1PostController {
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) Long categoryId,
-            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
         Sort.Direction direction = sortParams.length > 1 && sortParams[1].equalsIgnoreCase("asc")
@@ -162,6 +177,69 @@ public class ApiV1PostController {
         } else {
             posts = postService.getAllPostsPageable(page, size, sortField, direction);
         }
+        applyViewer(posts.getContent(), viewer, user);
+        return ResponseEntity.ok(posts);
+    }
+
+    // 게시글 커서 기반 조회
+    @GetMapping("/cursor")
+    @Operation(
+            summary = "게시글 커서 조회",
+            description = "커서 기반으로 게시글을 조회합니다. sort=createdAt(최신순) 또는 sort=likeCount(좋아요순), 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서")
+            }
+    )
+    public ResponseEntity<CursorResponseDto<PostResponseDto>> getPostsByCursor(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(required = false, defaultValue = "createdAt") String sort,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
+        CursorResponseDto<PostResponseDto> posts = postService.getPostsByCursor(categoryId, sort, cursor, size);
+        applyViewer(posts.getContent(), viewer, user);
+        return ResponseEntity.ok(posts);
+    }
+
+    // 인기 게시글 조회
+    @GetMapping("/hot")
+    @Operation(
+            summary = "인기 게시글 조회",
+            description = "조회수/좋아요/댓글을 시간 감쇠 점수로 합산한 인기 게시글을 조회합니다. categoryId가 없으면 전체 기준입니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공")
+            }
+    )
+    public ResponseEntity<List<PostResponseDto>> getHotPosts(
+            @RequestParam(required = false) Long categoryId,
+            @RequestParam(defaultValue = "5") int size,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
+        List<PostResponseDto> posts = postService.getHotPosts(categoryId, size);
+        applyViewer(posts, viewer, user);
+        return ResponseEntity.ok(posts);
+    }
+
+    @GetMapping("/user/{userId}/cursor")
+    @Operation(
+            summary = "사용자 게시글 커서 조회",
+            description = "특정 사용자가 작성한 게시글을 최신순으로 커서 기반 조회합니다.",
+            responses = {
+                    @ApiResponse(responseCode = "200", description = "조회 성공"),
+                    @ApiResponse(responseCode = "400", description = "유효하지 않은 커서"),
+                    @ApiResponse(responseCode = "404", description = "사용자가 없음")
+            }
+    )
+    public ResponseEntity<CursorResponseDto<PostResponseDto>> getPostsByUserCursor(
+            @Parameter(description = "유저 ID", required = true) @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "10") int size,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
+        CursorResponseDto<PostResponseDto> posts = postService.getPostsByUserCursor(userId, cursor, size);
+        applyViewer(posts.getContent(), viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -175,8 +253,11 @@ public class ApiV1PostController {
             }
     )
     public ResponseEntity<List<PostResponseDto>> getPostsByUser(
-            @Parameter(description = "유저 ID", required = true) @PathVariable Long userId) {
+            @Parameter(description = "유저 ID", required = true) @PathVariable Long userId,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
         List<PostResponseDto> posts = postService.getPostsByUser(userId);
+        applyViewer(posts, viewer, user);
         return ResponseEntity.ok(posts);
     }
 
@@ -243,7 +324,7 @@ public class ApiV1PostController {
     // 게시글 SEARCH
     @Operation(
             summary = "게시글 검색", // Swagger 문서 요약
-            description = "제목 또는 작성자 기준으로 게시글을 검색합니다. type=title 또는 type=writer" // Swagger 설명
+            description = "제목, 본문 또는 작성자 기준으로 게시글을 검색합니다. type=title, type=content 또는 type=writer, sort 미지정 시 관련도순" // Swagger 설명
     )
     @GetMapping("/search")
     public ResponseEntity<Page<PostResponseDto>> searchPosts(
@@ -251,7 +332,9 @@ public class ApiV1PostController {
             @RequestParam String keyword,
             @RequestParam(defaultValue = "0") int page,
             @RequestParam(defaultValue = "10") int size,
-            @RequestParam(required = false, defaultValue = "createdAt,desc") String sort) {
+            @RequestParam(required = false, defaultValue = PostService.SEARCH_SCORE_SORT + ",desc") String sort,
+            @Parameter(description = "true면 로그인 사용자 기준 좋아요/팔로우 여부 포함") @RequestParam(defaultValue = "false") boolean viewer,
+            @AuthenticationPrincipal SecurityUser user) {
 
         String[] sortParams = sort.split(",");
         String sortField = sortParams[0];
@@ -260,7 +343,14 @@ public class ApiV1PostController {
                 : Sort.Direction.DESC;
 
         Page<PostResponseDto> posts = postService.searchPostsPageable(type, keyword, page, size, sortField, direction);
+        applyViewer(posts.getContent(), viewer, user);
         return ResponseEntity.ok(posts);
     }
 
-}
\ No newline at end of file
+    // viewer=true이고 로그인한 경우에만 좋아요/팔로우 여부를 한 번에 채움 (카드마다 check API 호출 방지)
+    private void applyViewer(List<PostResponseDto> posts, boolean viewer, SecurityUser user) {
+        if (viewer && user != null) {
+            postService.applyViewerContext(posts, user.getId());
+        }
+    }
+}
@@ -0,0 +1,8 @@
+package com.dd.blog.domain.post.post.dto;
+
+// 좋아요 처리 후 응답/랭킹 반영용 (엔티티를 로딩하지 않고 필요한 값만 조회)
+public record PostLikeStatDto(
+        Long categoryId,
+        int likeCount
+) {
+}
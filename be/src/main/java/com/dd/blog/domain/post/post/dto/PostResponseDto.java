@@ -1,18 +1,18 @@
 package com.dd.blog.domain.post.post.dto;
 
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.user.user.entity.UserRole;
 import lombok.*;
 
 import java.time.LocalDateTime;
-import java.util.ArrayList;
-import java.util.List;
+import java.util.Map;
 
 @Getter
 @Setter
 @NoArgsConstructor
 @AllArgsConstructor
-@Builder
+@Builder(toBuilder = true)
 public class PostResponseDto {
     private Long postId;
     private Long userId;
@@ -28,33 +28,19 @@ public class PostResponseDto {
     private int commentCount;
 
     private String verificationImageUrl;
+    // 목록 화면용 작은 이미지 (변환 전이면 원본 URL)
+    private String[] thumbnailUrl;
+    private String verificationThumbnailUrl;
     private Integer detoxTime;
     private LocalDateTime createdAt;
     private LocalDateTime updatedAt;
     private String status;
 
+    // 로그인 사용자 기준 정보 (viewer=true로 요청한 목록에서만 채워짐)
+    private Boolean likedByMe;
+    private Boolean followingAuthor;
+
     public static PostResponseDto fromEntity(Post post) {
-        // 이미지 URL 중복 처리
-        String[] imageUrls = post.getImageUrl();
-        String verificationImageUrl = null;
-        
-        // post/ 경로의 이미지 필터링 (중복 이미지 방지)
-        if (imageUrls != null && imageUrls.length > 0) {
-            List<String> filteredUrls = new ArrayList<>();
-            for (String url : imageUrls) {
-                // images/ 경로의 이미지만 유지 (post/ 경로 이미지 제외)
-                if (url != null && !url.contains("/post/")) {
-                    filteredUrls.add(url);
-                }
-            }
-            imageUrls = filteredUrls.toArray(new String[0]);
-        }
-        
-        // 인증 게시판인 경우 첫 번째 이미지를 verificationImageUrl로 설정
-        if (post.getCategory().getId() == 1L && imageUrls != null && imageUrls.length > 0) {
-            verificationImageUrl = imageUrls[0];
-        }
-        
         return PostResponseDto.builder()
                 .postId(post.getId())
                 .userId(post.getUser().getId())
@@ -63,15 +49,53 @@ public class PostResponseDto {
                 .categoryId(post.getCategory().getId())
                 .title(post.getTitle())
                 .content(post.getContent())
-                .imageUrl(imageUrls)
+                .imageUrl(post.getDisplayImageUrl())
                 .viewCount(post.getViewCount())
                 .likeCount(post.getLikeCount())
-                .commentCount(post.getComments() != null ? post.getComments().size() : 0) // null 체크
-                .verificationImageUrl(verificationImageUrl)
+                .commentCount(post.getCommentCount())
+                .verificationImageUrl(post.getDisplayVerificationImageUrl())
                 .detoxTime(post.getDetoxTime())
                 .createdAt(post.getCreatedAt())
                 .updatedAt(post.getUpdatedAt())
                 .status(null)
                 .build();
     }
-}
\ No newline at end of file
+
+    // 목록 조회 projection → 응답 DTO
+    public static PostResponseDto fromSummary(PostSummaryDto summary) {
+        return PostResponseDto.builder()
+                .postId(summary.postId())
+                .userId(summary.userId())
+                .userNickname(summary.userNickname())
+                .userRole(summary.userRole())
+                .categoryId(summary.categoryId())
+                .title(summary.title())
+                .content(summary.content())
+                .imageUrl(summary.imageUrl())
+                .viewCount(summary.viewCount())
+                .likeCount(summary.likeCount())
+                .commentCount(summary.commentCount())
+                .verificationImageUrl(summary.verificationImageUrl())
+                .detoxTime(summary.detoxTime())
+                .createdAt(summary.createdAt())
+                .updatedAt(summary.updatedAt())
+                .status(null)
+                .build();
+    }
+
+    // 변환된 썸네일 적용 (변환이 끝나지 않은 이미지는 원본 사용)
+    public void applyThumbnails(Map<String, ImageVariantUrls> variants) {
+        if (imageUrl != null) {
+            String[] thumbnails = new String[imageUrl.length];
+            for (int i = 0; i < imageUrl.length; i++) {
+                ImageVariantUrls variant = variants.get(imageUrl[i]);
+                thumbnails[i] = variant != null ? variant.thumbnailUrl() : imageUrl[i];
+            }
+            this.thumbnailUrl = thumbnails;
+        }
+        if (verificationImageUrl != null) {
+            ImageVariantUrls variant = variants.get(verificationImageUrl);
+            this.verificationThumbnailUrl = variant != null ? variant.thumbnailUrl() : verificationImageUrl;
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.dd.blog.domain.post.post.dto;
+
+import com.dd.blog.domain.user.user.entity.UserRole;
+
+import java.time.LocalDateTime;
+
+// 게시글 목록 카드용 projection (엔티티를 거치지 않고 필요한 컬럼만 조회)
+public record PostSummaryDto(
+        Long postId,
+        Long userId,
+        String userNickname,
+        UserRole userRole,
+        Long categoryId,
+        String title,
+        String content,
+        String[] imageUrl,
+        String verificationImageUrl,
+        int viewCount,
+        int likeCount,
+        int commentCount,
+        Integer detoxTime,
+        LocalDateTime createdAt,
+        LocalDateTime updatedAt
+) {
+}
@@ -18,15 +18,33 @@ import java.util.List;
 @NoArgsConstructor
 @AllArgsConstructor
 @SuperBuilder
-@ToString
-@Table(name="post")
+@ToString(exclude = {"user", "category", "comments", "postLikes"})
+// 상세/수정 화면용 fetch plan (작성자, 카테고리를 한 번에 조회)
+@NamedEntityGraph(
+        name = "Post.withUserAndCategory",
+        attributeNodes = {
+                @NamedAttributeNode("user"),
+                @NamedAttributeNode("category")
+        }
+)
+@Table(
+        name = "post",
+        indexes = {
+                // 커서 기반 페이징용 인덱스
+                @Index(name = "idx_post_created_at_id", columnList = "created_at, id"),
+                @Index(name = "idx_post_category_created_at_id", columnList = "category_id, created_at, id"),
+                @Index(name = "idx_post_like_count_id", columnList = "like_count, id"),
+                @Index(name = "idx_post_category_like_count_id", columnList = "category_id, like_count, id"),
+                @Index(name = "idx_post_user_created_at_id", columnList = "user_id, created_at, id")
+        }
+)
 public class Post extends BaseEntity {
     //외래키
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="user_id")
     private User user;
 
-    @ManyToOne
+    @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name="category_id")
     private Category category;
 
@@ -40,17 +58,31 @@ public class Post extends BaseEntity {
     @Convert(converter = StringArrayConverter.class)
     private String[] imageUrl;
 
-    // 인기게시글 TOP5 위해 다시 추가
-    @Column(name = "view_count")
+    // 인기게시글 TOP5 위해 다시 추가 (PostViewCountService의 배치 UPDATE로만 변경)
+    @Column(name = "view_count", updatable = false)
     private int viewCount;
 
-    @Column(name="like_count")
+    // 좋아요 수는 원자적 UPDATE로만 변경 (게시글 수정 시 읽어둔 값으로 덮어쓰지 않도록 updatable = false)
+    @Column(name="like_count", updatable = false)
     private int likeCount;
 
+    // 댓글 수 (목록 조회 시 댓글 컬렉션을 로딩하지 않기 위해 별도 관리, 원자적 UPDATE로만 변경)
+    @Column(name = "comment_count", updatable = false)
+    private int commentCount;
+
     // 인증게시판 전용
     @Column(name = "verification_image_url", length = 255)
     private String verificationImageUrl;
 
+    // 화면 표시용 이미지 (작성/수정 시 한 번만 계산, 조회 시에는 필터링/복사 없이 그대로 사용)
+    // 썸네일 조회에 URL 목록이 필요해 JSON 배열 디코딩은 행마다 남음 (이미지 없는 행은 디코딩 생략)
+    @Column(name = "display_image_url", length = 500)
+    @Convert(converter = StringArrayConverter.class)
+    private String[] displayImageUrl;
+
+    @Column(name = "display_verification_image_url", length = 255)
+    private String displayVerificationImageUrl;
+
     @Column(name = "detox_time")
     private Integer detoxTime;
 
@@ -71,20 +103,17 @@ public class Post extends BaseEntity {
         if (imageUrl != null) this.imageUrl = imageUrl;
     }
 
-    // 좋아요 메서드
-    public void increaseLikeCount() {
-        this.likeCount++;
-    }
-
-    public void decreaseLikeCount() {
-        if (this.likeCount > 0) {
-            this.likeCount--;
+    // 표시용 이미지 재계산 (post/ 경로 이미지는 중복이므로 제외, 인증게시판은 첫 번째 이미지를 인증 이미지로 사용)
+    public void refreshDisplayImages(boolean verificationBoard) {
+        List<String> displayUrls = new ArrayList<>();
+        if (this.imageUrl != null) {
+            for (String url : this.imageUrl) {
+                if (url != null && !url.contains("/post/")) {
+                    displayUrls.add(url);
+                }
+            }
         }
+        this.displayImageUrl = displayUrls.toArray(new String[0]);
+        this.displayVerificationImageUrl = verificationBoard && !displayUrls.isEmpty() ? displayUrls.get(0) : null;
     }
-
-    // viewCount 메서드
-    public void increaseViewCount() {
-        this.viewCount++;
-    }
-
 }
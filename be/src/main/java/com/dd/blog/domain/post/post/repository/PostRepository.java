@@ -1,29 +1,70 @@
 package com.dd.blog.domain.post.post.repository;
 
+import com.dd.blog.domain.post.post.dto.PostLikeStatDto;
+import com.dd.blog.domain.post.post.dto.PostSummaryDto;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.category.entity.Category;
-import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.post.search.dto.PostSearchDocument;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface PostRepository extends JpaRepository<Post, Long> {
 
+    // 목록 조회용 projection (작성자 닉네임/등급, 카테고리 ID를 한 번에 조회)
+    String SUMMARY_SELECT = "SELECT new com.dd.blog.domain.post.post.dto.PostSummaryDto(" +
+            "p.id, u.id, u.nickname, u.role, p.category.id, p.title, p.content, " +
+            "p.displayImageUrl, p.displayVerificationImageUrl, " +
+            "p.viewCount, p.likeCount, p.commentCount, p.detoxTime, p.createdAt, p.updatedAt) " +
+            "FROM Post p JOIN p.user u ";
+
+    // 상세/수정용 (작성자, 카테고리 함께 조회)
+    @EntityGraph("Post.withUserAndCategory")
+    Optional<Post> findWithUserAndCategoryById(Long id);
+
+    // 전체 게시글 목록
+    @Query(SUMMARY_SELECT)
+    List<PostSummaryDto> findAllSummaries();
+
+    @Query(value = SUMMARY_SELECT, countQuery = "SELECT COUNT(p) FROM Post p")
+    Page<PostSummaryDto> findAllSummaries(Pageable pageable);
+
     // 카테고리 ID로 조회(게시판 종류별:인증, 자유, 정보공유)
-    List<Post> findByCategoryId(Long categoryId);
+    @Query(SUMMARY_SELECT + "WHERE p.category.id = :categoryId")
+    List<PostSummaryDto> findSummariesByCategoryId(@Param("categoryId") Long categoryId);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.category.id = :categoryId",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.category.id = :categoryId")
+    Page<PostSummaryDto> findSummariesByCategoryId(@Param("categoryId") Long categoryId, Pageable pageable);
 
     // 팔로우한 유저들 ID로 조회
-    List<Post> findByUserInOrderByCreatedAtDesc(List<User> users);
+    @Query(SUMMARY_SELECT + "WHERE u.id IN :userIds ORDER BY p.createdAt DESC")
+    List<PostSummaryDto> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds);
 
-    Page<Post> findByUserInOrderByCreatedAtDesc(List<User> users, Pageable pageable);
+    @Query(value = SUMMARY_SELECT + "WHERE u.id IN :userIds",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.user.id IN :userIds")
+    Page<PostSummaryDto> findSummariesByUserIdIn(@Param("userIds") Collection<Long> userIds, Pageable pageable);
 
     // 특정 사용자의 게시물 목록 조회
-    List<Post> findByUserOrderByCreatedAtDesc(User user);
+    @Query(SUMMARY_SELECT + "WHERE u.id = :userId ORDER BY p.createdAt DESC")
+    List<PostSummaryDto> findSummariesByUserId(@Param("userId") Long userId);
+
+    // ID 목록으로 조회 (검색/인기/타임라인 결과)
+    @Query(SUMMARY_SELECT + "WHERE p.id IN :ids")
+    List<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids);
+
+    @Query(value = SUMMARY_SELECT + "WHERE p.id IN :ids",
+            countQuery = "SELECT COUNT(p) FROM Post p WHERE p.id IN :ids")
+    Page<PostSummaryDto> findSummariesByIdIn(@Param("ids") Collection<Long> ids, Pageable pageable);
 
     Page<Post> findByCategoryIdOrderByIdAsc(Long categoryId, Pageable pageable);
 
@@ -33,23 +74,81 @@ public interface PostRepository extends JpaRepository<Post, Long> {
     // 오늘 생성된 게시글 개수 반환
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
 
-    // 사용자 정의 JPQL 쿼리: 검색 타입(type)이 'title'이면 제목에서, 'writer'면 작성자 닉네임에서 keyword를 LIKE 검색
-    @Query("SELECT p FROM Post p " +
-            "WHERE (:type = 'title' AND p.title LIKE %:keyword%) " +
-            "   OR (:type = 'writer' AND p.user.nickname LIKE %:keyword%)")
-    List<Post> searchByTypeAndKeyword(@Param("type") String type, @Param("keyword") String keyword);
+    // [start, end) 구간 작성 수
+    long countByUserIdAndCategoryIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(Long userId, Long categoryId, LocalDateTime start, LocalDateTime end);
+
+    // 특정 유저들이 작성한 게시글 ID (최신순)
+    @Query("SELECT p.id FROM Post p WHERE p.user.id IN :userIds ORDER BY p.id DESC")
+    List<Long> findIdsByUserIdIn(@Param("userIds") Collection<Long> userIds, Pageable pageable);
+
+    long countByUserIdIn(Collection<Long> userIds);
+
+    // 검색 색인 구성용 (ID 순으로 나눠서 조회)
+    @Query("SELECT new com.dd.blog.domain.post.search.dto.PostSearchDocument(p.id, u.id, u.nickname, p.title, p.content) " +
+            "FROM Post p JOIN p.user u WHERE p.id > :lastId ORDER BY p.id ASC")
+    List<PostSearchDocument> findSearchDocumentsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 커서 기반 페이징 (createdAt, id 내림차순) - offset/count 없이 인덱스 범위 조회
+    @Query(SUMMARY_SELECT +
+            "WHERE p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findNextPageOrderByCreatedAt(@Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.category.id = :categoryId " +
+            "  AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findNextPageByCategoryOrderByCreatedAt(@Param("categoryId") Long categoryId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE u.id = :userId " +
+            "  AND (p.createdAt < :createdAt OR (p.createdAt = :createdAt AND p.id < :id)) " +
+            "ORDER BY p.createdAt DESC, p.id DESC")
+    List<PostSummaryDto> findNextPageByUserOrderByCreatedAt(@Param("userId") Long userId, @Param("createdAt") LocalDateTime createdAt, @Param("id") Long id, Pageable pageable);
+
+    // 커서 기반 페이징 (likeCount, id 내림차순)
+    @Query(SUMMARY_SELECT +
+            "WHERE p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<PostSummaryDto> findNextPageOrderByLikeCount(@Param("likeCount") int likeCount, @Param("id") Long id, Pageable pageable);
+
+    @Query(SUMMARY_SELECT +
+            "WHERE p.category.id = :categoryId " +
+            "  AND (p.likeCount < :likeCount OR (p.likeCount = :likeCount AND p.id < :id)) " +
+            "ORDER BY p.likeCount DESC, p.id DESC")
+    List<PostSummaryDto> findNextPageByCategoryOrderByLikeCount(@Param("categoryId") Long categoryId, @Param("likeCount") int likeCount, @Param("id") Long id, Pageable pageable);
+
+    // 좋아요 수 원자적 증감 (엔티티를 읽고 쓰지 않으므로 동시 요청에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount + 1 WHERE p.id = :postId")
+    int increaseLikeCount(@Param("postId") Long postId);
+
+    @Modifying
+    @Query("UPDATE Post p SET p.likeCount = p.likeCount - 1 WHERE p.id = :postId AND p.likeCount > 0")
+    int decreaseLikeCount(@Param("postId") Long postId);
+
+    @Query("SELECT new com.dd.blog.domain.post.post.dto.PostLikeStatDto(p.category.id, p.likeCount) FROM Post p WHERE p.id = :postId")
+    Optional<PostLikeStatDto> findLikeStatById(@Param("postId") Long postId);
+
+    // 댓글 수 원자적 증감 (행 단위 UPDATE로 동시 작성 시에도 유실 없음)
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount + 1 WHERE p.id = :postId")
+    int increaseCommentCount(@Param("postId") Long postId);
 
-    long countByUserIdAndCategoryIdAndCreatedAtBetween(Long userId, Long categoryId, LocalDateTime start, LocalDateTime end);
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = p.commentCount - 1 WHERE p.id = :postId AND p.commentCount > 0")
+    int decreaseCommentCount(@Param("postId") Long postId);
 
-    // 팔로우한 유저 기준 조회
-    Page<Post> findByUserIn(List<User> users, Pageable pageable);
+    // 실제 댓글 수와 어긋난 게시글의 댓글 수 보정
+    @Modifying
+    @Query("UPDATE Post p SET p.commentCount = (SELECT COUNT(c) FROM Comment c WHERE c.post = p) " +
+            "WHERE p.commentCount <> (SELECT COUNT(c) FROM Comment c WHERE c.post = p)")
+    int reconcileCommentCounts();
 
-    // 카테고리 ID 기준 조회
-    Page<Post> findByCategoryId(Long categoryId, Pageable pageable);
+    // 표시용 이미지가 아직 계산되지 않은 게시글 (기존 데이터 보정용)
+    @Query("SELECT p FROM Post p WHERE p.displayImageUrl IS NULL AND p.id > :lastId ORDER BY p.id ASC")
+    List<Post> findWithoutDisplayImagesAfterId(@Param("lastId") Long lastId, Pageable pageable);
 
-    // 검색 결과 페이징
-    @Query("SELECT p FROM Post p " +
-            "WHERE (:type = 'title' AND p.title LIKE %:keyword%) " +
-            "   OR (:type = 'writer' AND p.user.nickname LIKE %:keyword%)")
-    Page<Post> searchByTypeAndKeywordPageable(@Param("type") String type, @Param("keyword") String keyword, Pageable pageable);
+    // 최근 게시글 (인기 게시글 랭킹 복원용)
+    List<Post> findByCreatedAtAfter(LocalDateTime createdAt);
 }
@@ -0,0 +1,65 @@
+package com.dd.blog.domain.post.post.service;
+
+import com.dd.blog.domain.post.post.dto.PostResponseDto;
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.Duration;
+import java.util.function.Function;
+
+// 게시글 상세 캐시
+// Caffeine(W-TinyLFU)으로 자주 조회되는 게시글만 남기고, 크기/TTL로 상한을 둠
+// 게시글 수정/삭제, 좋아요, 댓글, 인증 상태 변경 시 해당 게시글만 무효화
+@Service
+public class PostDetailCacheService {
+
+    private static final long MAXIMUM_SIZE = 10_000;
+    private static final Duration EXPIRE_AFTER_WRITE = Duration.ofMinutes(5);
+
+    private final Cache<Long, PostResponseDto> cache = Caffeine.newBuilder()
+            .maximumSize(MAXIMUM_SIZE)
+            .expireAfterWrite(EXPIRE_AFTER_WRITE)
+            .recordStats()
+            .build();
+
+    // 캐시된 상세 정보 (호출자가 수정해도 캐시에 영향이 없도록 복사본 반환)
+    public PostResponseDto get(Long postId, Function<Long, PostResponseDto> loader) {
+        return cache.get(postId, loader).toBuilder().build();
+    }
+
+    // 즉시 제거하고, 트랜잭션 안이면 커밋 후 한 번 더 제거
+    // (커밋 전에 다른 요청이 이전 데이터로 다시 채우는 경우 방지)
+    public void evict(Long postId) {
+        cache.invalidate(postId);
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    cache.invalidate(postId);
+                }
+            });
+        }
+    }
+
+    // DB에 반영된 조회수를 캐시에도 반영 (조회수 때문에 무효화하지 않음)
+    public void addViewCount(Long postId, long delta) {
+        cache.asMap().computeIfPresent(postId, (id, dto) -> {
+            PostResponseDto updated = dto.toBuilder().build();
+            updated.setViewCount(dto.getViewCount() + (int) delta);
+            return updated;
+        });
+    }
+
+    public CacheStats getStats() {
+        return cache.stats();
+    }
+
+    public long getSize() {
+        return cache.estimatedSize();
+    }
+}
@@ -0,0 +1,105 @@
+package com.dd.blog.domain.post.post.service;
+
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 게시판별 하루 작성 수 카운터 (사용자, 카테고리, 날짜 단위)
+// 처음 사용할 때만 DB에서 오늘 작성 수를 읽어 오고, 이후 제한 확인은 메모리 CAS로만 처리
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostQuotaService {
+
+    private final PostRepository postRepository;
+
+    private final Map<QuotaKey, AtomicInteger> counters = new ConcurrentHashMap<>();
+
+    private record QuotaKey(Long userId, Long categoryId, LocalDate day) {
+    }
+
+    // 제한 안이면 1건 예약하고 true, 초과면 false
+    // 트랜잭션이 롤백되면 예약을 되돌림
+    public boolean tryReserve(Long userId, Long categoryId, int limit) {
+        QuotaKey key = new QuotaKey(userId, categoryId, LocalDate.now());
+        AtomicInteger cached = counters.get(key);
+        AtomicInteger counter = cached != null ? cached : seed(key);
+
+        while (true) {
+            int current = counter.get();
+            if (current >= limit) {
+                return false;
+            }
+            if (counter.compareAndSet(current, current + 1)) {
+                break;
+            }
+        }
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCompletion(int status) {
+                    if (status != STATUS_COMMITTED) {
+                        counter.decrementAndGet();
+                    }
+                }
+            });
+        }
+        return true;
+    }
+
+    // 오늘 작성한 게시글이 삭제되면 작성 수 차감 (커밋 후)
+    public void release(Long userId, Long categoryId, LocalDateTime createdAt) {
+        if (createdAt == null || !createdAt.toLocalDate().equals(LocalDate.now())) {
+            return;
+        }
+        QuotaKey key = new QuotaKey(userId, categoryId, createdAt.toLocalDate());
+        Runnable decrease = () -> {
+            AtomicInteger counter = counters.get(key);
+            if (counter != null) {
+                counter.updateAndGet(count -> Math.max(0, count - 1));
+            }
+        };
+
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    decrease.run();
+                }
+            });
+        } else {
+            decrease.run();
+        }
+    }
+
+    // DB 조회는 맵 밖에서 하고 등록만 putIfAbsent로 (동시에 먼저 등록된 카운터가 있으면 그것을 사용)
+    private AtomicInteger seed(QuotaKey key) {
+        LocalDateTime startOfDay = key.day().atStartOfDay();
+        LocalDateTime startOfNextDay = key.day().plusDays(1).atStartOfDay();
+        long count = postRepository.countByUserIdAndCategoryIdAndCreatedAtGreaterThanEqualAndCreatedAtLessThan(
+                key.userId(), key.categoryId(), startOfDay, startOfNextDay);
+        AtomicInteger seeded = new AtomicInteger((int) count);
+        AtomicInteger existing = counters.putIfAbsent(key, seeded);
+        return existing != null ? existing : seeded;
+    }
+
+    // 지난 날짜 카운터 정리 (매일 자정)
+    @Scheduled(cron = "0 0 0 * * *")
+    public void evictPastDays() {
+        LocalDate today = LocalDate.now();
+        int before = counters.size();
+        counters.keySet().removeIf(key -> key.day().isBefore(today));
+        log.info("지난 게시글 작성 수 카운터 정리 {}건", before - counters.size());
+    }
+}
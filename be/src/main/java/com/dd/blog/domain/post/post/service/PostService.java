@@ -1,13 +1,23 @@
 package com.dd.blog.domain.post.post.service;
 
-import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.dto.CategoryPolicy;
 import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.category.service.CategoryRegistry;
 import com.dd.blog.domain.post.event.PostCreatedEvent;
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
+import com.dd.blog.domain.post.image.service.ImageVariantService;
+import com.dd.blog.domain.post.event.PostDeletedEvent;
+import com.dd.blog.domain.post.event.PostUpdatedEvent;
 import com.dd.blog.domain.post.post.dto.PostPatchRequestDto;
 import com.dd.blog.domain.post.post.dto.PostRequestDto;
 import com.dd.blog.domain.post.post.dto.PostResponseDto;
+import com.dd.blog.domain.post.post.dto.PostSummaryDto;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.postlike.repository.PostLikeRepository;
+import com.dd.blog.domain.post.ranking.service.PostRankingService;
+import com.dd.blog.domain.post.search.service.PostSearchService;
+import com.dd.blog.domain.post.timeline.service.TimelineService;
 import com.dd.blog.domain.post.verification.dto.VerificationRequestDto;
 import com.dd.blog.domain.post.verification.entity.Verification;
 import com.dd.blog.domain.post.verification.entity.VerificationStatus;
@@ -19,11 +29,16 @@ import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import com.dd.blog.domain.user.follow.repository.FollowRepository;
 import com.dd.blog.global.aws.AwsS3Uploader;
+import com.dd.blog.global.aws.UploadedImage;
+import com.dd.blog.global.dto.CursorResponseDto;
 import com.dd.blog.global.exception.ApiException;
 import com.dd.blog.global.exception.ErrorCode;
+import com.dd.blog.global.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
 import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
@@ -31,28 +46,44 @@ import org.springframework.security.access.AccessDeniedException;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
-import java.time.LocalDate;
-import java.time.LocalDateTime;
 import java.util.*;
+import java.util.function.Function;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class PostService {
 
+    // 검색 결과 관련도순 정렬 값
+    public static final String SEARCH_SCORE_SORT = "score";
+    private static final int DISPLAY_IMAGE_BACKFILL_BATCH_SIZE = 500;
+
     private final PostRepository postRepository;
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
+    private final PostQuotaService postQuotaService;
+    private final ImageVariantService imageVariantService;
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final PostLikeRepository postLikeRepository;
     private final ApplicationEventPublisher eventPublisher;
     private final VerificationService verificationService;
     private final VerificationRepository verificationRepository;
     private final ReportRepository reportRepository;
     private final AwsS3Uploader awsS3Uploader;
+    private final TimelineService timelineService;
+    private final PostViewCountService postViewCountService;
+    private final PostRankingService postRankingService;
+    private final PostSearchService postSearchService;
+    private final PostDetailCacheService postDetailCacheService;
+    private final PlatformTransactionManager transactionManager;
 
     private void checkAdminAuthority() {
         Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
@@ -72,40 +103,40 @@ public class PostService {
 
     // CREATE
     // 게시글 CREATE
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 먼저 처리하고, 트랜잭션에서는 결과 URL만 저장 (업로드 중 DB 커넥션 점유 방지)
     public PostResponseDto createPost(Long categoryId, Long userId, PostRequestDto postRequestDto, MultipartFile[] postImages) throws IOException {
-        Category category = categoryRepository.findById(categoryId)
-                .orElseThrow(() -> new ApiException(ErrorCode.CATEGORY_NOT_FOUND));
+        CategoryPolicy policy = categoryRegistry.get(categoryId);
+
+        if (policy.adminOnly())
+            checkAdminAuthority();
+
+        List<UploadedImage> uploadedImages = awsS3Uploader.uploadAll(postImages, "post");
+        List<String> newImageUrlList = UploadedImage.urls(uploadedImages);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status ->
+                    savePost(policy, userId, postRequestDto, newImageUrlList));
+        } catch (RuntimeException e) {
+            // 저장 실패 시 업로드한 이미지 정리
+            awsS3Uploader.deleteAll(uploadedImages);
+            throw e;
+        }
+    }
+
+    private PostResponseDto savePost(CategoryPolicy policy, Long userId, PostRequestDto postRequestDto, List<String> newImageUrlList) {
+        Long categoryId = policy.categoryId();
 
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
 
-        // 카테고리별 게시글 제한 체크
-        if (categoryId == 1L) { // 인증게시판
-            if (hasUserPostedVerificationToday(userId)) {
-                throw new ApiException(ErrorCode.VERIFICATION_POST_ALREADY_SUBMITTED);
-            }
-        } else if (categoryId == 2L || categoryId == 3L) { // 정보공유게시판이나 자유게시판
-            int postCount = countPostsByUserAndCategoryToday(userId, categoryId);
-            if (postCount >= 10) {
-                throw new ApiException(ErrorCode.DAILY_POST_LIMIT_EXCEEDED);
-            }
+        // 카테고리별 게시글 제한 체크 (메모리 카운터에 1건 예약, 저장 실패 시 자동 반환)
+        if (policy.hasDailyPostLimit() && !postQuotaService.tryReserve(userId, categoryId, policy.dailyPostLimit())) {
+            throw new ApiException(policy.verificationBoard()
+                    ? ErrorCode.VERIFICATION_POST_ALREADY_SUBMITTED
+                    : ErrorCode.DAILY_POST_LIMIT_EXCEEDED);
         }
 
-        if(category.getId() == 4L)
-            checkAdminAuthority();
-
         // 기존 이미지 URL 배열 (null이면 빈 배열로 초기화)
         String[] existingImageUrls = postRequestDto.getImageUrl() != null ? postRequestDto.getImageUrl() : new String[0];
-        
-        // 새로 업로드된 이미지 처리
-        List<String> newImageUrlList = new ArrayList<>();
-        if (postImages != null && postImages.length > 0) {
-            for (MultipartFile postImage : postImages) {
-                String uploadedUrl = awsS3Uploader.upload(postImage, "post"); // 각 이미지를 S3에 업로드
-                newImageUrlList.add(uploadedUrl); // URL 리스트에 추가
-            }
-        }
 
         // 기존 이미지 URL과 새 이미지 URL 결합
         List<String> combinedList = new ArrayList<>();
@@ -133,9 +164,9 @@ public class PostService {
         if (!combinedList.isEmpty()) {
             allImageUrls = combinedList.toArray(new String[0]);
         } else {
-            // 인증게시판(카테고리 ID 1)의 경우 이미지가 필수
-            if (categoryId == 1L) {
-                throw new IllegalArgumentException("인증게시판에는 이미지가 필수입니다.");
+            // 인증게시판 등 이미지가 필수인 게시판
+            if (policy.imageRequired()) {
+                throw new IllegalArgumentException(policy.categoryName() + "에는 이미지가 필수입니다.");
             }
             // 다른 게시판은 이미지 없이도 등록 가능 (빈 배열로 설정)
             allImageUrls = new String[0];
@@ -145,11 +176,11 @@ public class PostService {
                 .title(postRequestDto.getTitle())
                 .content(postRequestDto.getContent())
                 .imageUrl(allImageUrls)
-                .category(category)
+                .category(categoryRepository.getReferenceById(categoryId))
                 .user(user)
                 .detoxTime(postRequestDto.getDetoxTime()) // Integer: 디톡스 시간 (~h)
                 .verificationImageUrl(
-                 categoryId == 1L
+                 policy.verificationBoard()
                  ? (!newImageUrlList.isEmpty()
                  ? newImageUrlList.get(0)
                  : (existingImageUrls.length > 0
@@ -158,10 +189,11 @@ public class PostService {
                         : null)
                 .viewCount(0) // 핫게시물 TOP5 위해 재추가
                 .build();
+        post.refreshDisplayImages(policy.verificationBoard());
 
         Post savedPost = postRepository.save(post);
 
-        if (categoryId == 1L) {
+        if (policy.verificationBoard()) {
             VerificationRequestDto verificationRequest = VerificationRequestDto.builder()
                     .userId(userId)
                     .postId(savedPost.getId())
@@ -181,25 +213,15 @@ public class PostService {
     // 전체 게시글 READ
     @Transactional(readOnly = true)
     public List<PostResponseDto> getAllPosts() {
-        return postRepository.findAll().stream()
-                .map(post -> {
-                    PostResponseDto dto = PostResponseDto.fromEntity(post);
-                    return setVerificationStatus(dto, post);
-                })
-                .collect(Collectors.toList());
+        return toSummaryResponseDtos(postRepository.findAllSummaries());
     }
 
     // 특정 카테고리 게시판 READ
     @Transactional(readOnly = true)
     public List<PostResponseDto> getPostsByCategory(Long categoryId) {
-        Category category = categoryRepository.findById(categoryId)
+        categoryRegistry.find(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 존재하지 않습니다."));
-        return postRepository.findByCategoryId(categoryId).stream()
-                .map(post -> {
-                    PostResponseDto dto = PostResponseDto.fromEntity(post);
-                    return setVerificationStatus(dto, post);
-                })
-                .collect(Collectors.toList());
+        return toSummaryResponseDtos(postRepository.findSummariesByCategoryId(categoryId));
     }
 
     // 팔로잉 대상 게시판 READ
@@ -212,19 +234,16 @@ public class PostService {
         List<Follow> followings = followRepository.findByFollower(user);
 
         // 팔로우한 유저들만 뽑아냄
-        List<User> followedUsers = followings.stream()
-                .map(Follow::getFollowing)
+        List<Long> followedUserIds = followings.stream()
+                .map(follow -> follow.getFollowing().getId())
                 .toList();
 
-        // 이 유저들이 쓴 게시글을 모두 조회
-        List<Post> posts = postRepository.findByUserInOrderByCreatedAtDesc(followedUsers);
+        if (followedUserIds.isEmpty()) {
+            return List.of();
+        }
 
-        return posts.stream()
-                .map(post -> {
-                    PostResponseDto dto = PostResponseDto.fromEntity(post);
-                    return setVerificationStatus(dto, post);
-                })
-                .collect(Collectors.toList());
+        // 이 유저들이 쓴 게시글을 모두 조회
+        return toSummaryResponseDtos(postRepository.findSummariesByUserIdIn(followedUserIds));
     }
 
     @Transactional(readOnly = true)
@@ -232,21 +251,26 @@ public class PostService {
         User user = userRepository.findById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("유저가 존재하지 않습니다."));
 
+        // 기본 최신순 조회는 미리 적재된 타임라인에서 읽음
+        if ("createdAt".equals(sortField) && direction == Sort.Direction.DESC) {
+            Page<Long> postIdPage = timelineService.getTimeline(userId, page, size);
+            return new PageImpl<>(toSummaryResponseDtos(findSummariesInOrder(postIdPage.getContent())),
+                    postIdPage.getPageable(), postIdPage.getTotalElements());
+        }
+
         List<Follow> followings = followRepository.findByFollower(user);
-        List<User> followedUsers = followings.stream()
-                .map(Follow::getFollowing)
+        List<Long> followedUserIds = followings.stream()
+                .map(follow -> follow.getFollowing().getId())
                 .toList();
 
         Sort sort = Sort.by(direction, sortField);
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        if (followedUsers.isEmpty()) {
+        if (followedUserIds.isEmpty()) {
             return Page.empty(pageable);
         }
 
-        Page<Post> postPage = postRepository.findByUserIn(followedUsers, pageable);
-
-        return postPage.map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post));
+        return toSummaryResponseDtoPage(postRepository.findSummariesByUserIdIn(followedUserIds, pageable));
     }
 
     // 게시글 페이지 조회
@@ -261,14 +285,13 @@ public class PostService {
             sort = Sort.by(direction, "createdAt");
         }
         Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Post> postPage = postRepository.findAll(pageable);
-        return postPage.map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post));
+        return toSummaryResponseDtoPage(postRepository.findAllSummaries(pageable));
     }
 
     // 게시글 페이지 조회 (카테고리 ID)
     @Transactional(readOnly = true)
     public Page<PostResponseDto> getPostsByCategoryPageable(Long categoryId, int page, int size, String sortField, Sort.Direction direction) {
-        Category category = categoryRepository.findById(categoryId)
+        categoryRegistry.find(categoryId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 카테고리가 존재하지 않습니다."));
 
         Sort sort;
@@ -281,67 +304,126 @@ public class PostService {
         }
         Pageable pageable = PageRequest.of(page, size, sort);
 
-        Page<Post> postPage = postRepository.findByCategoryId(categoryId, pageable);
-
-        return postPage.map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post));
+        return toSummaryResponseDtoPage(postRepository.findSummariesByCategoryId(categoryId, pageable));
     }
 
     // 특정 사용자의 게시물 목록 조회
     @Transactional(readOnly = true)
     public List<PostResponseDto> getPostsByUser(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("유저가 존재하지 않습니다."));
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("유저가 존재하지 않습니다.");
+        }
 
-        List<Post> posts = postRepository.findByUserOrderByCreatedAtDesc(user);
-        return posts.stream()
-                .map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post))
-                .collect(Collectors.toList());
+        return toSummaryResponseDtos(postRepository.findSummariesByUserId(userId));
     }
 
-    // 게시글 1개 READ(상세보기)
+    // 게시글 커서 기반 조회 (createdAt 또는 likeCount 내림차순)
+    // offset 페이징과 달리 깊은 페이지에서도 앞쪽 행을 스캔/버리지 않고 count 쿼리도 없음
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostResponseDto> getPostsByCursor(Long categoryId, String sortField, String cursor, int size) {
+        size = CursorUtil.clampSize(size);
+        Pageable limit = PageRequest.of(0, size + 1); // 다음 페이지 존재 여부 확인을 위해 1개 더 조회
+
+        List<PostSummaryDto> posts;
+        if ("likeCount".equals(sortField)) {
+            CursorUtil.LikeCountCursor key = CursorUtil.decodeLikeCount(cursor);
+            posts = categoryId != null
+                    ? postRepository.findNextPageByCategoryOrderByLikeCount(categoryId, key.likeCount(), key.id(), limit)
+                    : postRepository.findNextPageOrderByLikeCount(key.likeCount(), key.id(), limit);
+        } else {
+            CursorUtil.CreatedAtCursor key = CursorUtil.decodeCreatedAt(cursor);
+            posts = categoryId != null
+                    ? postRepository.findNextPageByCategoryOrderByCreatedAt(categoryId, key.createdAt(), key.id(), limit)
+                    : postRepository.findNextPageOrderByCreatedAt(key.createdAt(), key.id(), limit);
+        }
+
+        return toCursorResponse(posts, size, last -> "likeCount".equals(sortField)
+                ? CursorUtil.encode(new CursorUtil.LikeCountCursor(last.likeCount(), last.postId()))
+                : CursorUtil.encode(new CursorUtil.CreatedAtCursor(last.createdAt(), last.postId())));
+    }
+
+    // 특정 사용자의 게시물 커서 기반 조회 (최신순)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<PostResponseDto> getPostsByUserCursor(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new ApiException(ErrorCode.USER_NOT_FOUND);
+        }
+
+        size = CursorUtil.clampSize(size);
+        CursorUtil.CreatedAtCursor key = CursorUtil.decodeCreatedAt(cursor);
+        List<PostSummaryDto> posts = postRepository.findNextPageByUserOrderByCreatedAt(userId, key.createdAt(), key.id(), PageRequest.of(0, size + 1));
+
+        return toCursorResponse(posts, size,
+                last -> CursorUtil.encode(new CursorUtil.CreatedAtCursor(last.createdAt(), last.postId())));
+    }
+
+    // 인기 게시글 READ (메모리 랭킹 순서 유지)
     @Transactional(readOnly = true)
+    public List<PostResponseDto> getHotPosts(Long categoryId, int size) {
+        int limit = Math.max(1, Math.min(size, PostRankingService.MAX_TOP_K));
+        List<Long> postIds = postRankingService.getHotPostIds(categoryId, limit);
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+
+        return toSummaryResponseDtos(findSummariesInOrder(postIds));
+    }
+
+    // 게시글 1개 READ(상세보기)
+    // 캐시 적중 시 DB 접근 없음 (트랜잭션은 캐시 미스일 때만 시작)
     public PostResponseDto getPostById(Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-        // 조회수 증가
-        post.increaseViewCount();
-        PostResponseDto dto = PostResponseDto.fromEntity(post);
-        return setVerificationStatus(dto, post);
+        PostResponseDto dto = postDetailCacheService.get(postId, this::loadPostDetail);
+        // 조회수 증가 (메모리에 모아 두었다가 주기적으로 DB 반영)
+        postViewCountService.increase(postId);
+        postRankingService.recordView(postId, dto.getCategoryId());
+        dto.setViewCount(dto.getViewCount() + (int) postViewCountService.getPendingCount(postId));
+        return dto;
+    }
+
+    // 게시글 상세 캐시 미스 시 DB 조회
+    private PostResponseDto loadPostDetail(Long postId) {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        transactionTemplate.setReadOnly(true);
+        return transactionTemplate.execute(status -> {
+            Post post = postRepository.findWithUserAndCategoryById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+            PostResponseDto dto = setVerificationStatus(PostResponseDto.fromEntity(post), post);
+            setThumbnails(List.of(dto));
+            return dto;
+        });
     }
 
     // UPDATE
     // 게시글 UPDATE(수정)
-    @Transactional
+    // 새 이미지는 트랜잭션 밖에서 먼저 업로드
     public PostResponseDto updatePost(Long postId, PostPatchRequestDto postPatchRequestDto, MultipartFile[] postImages) throws IOException {
-        Post post = postRepository.findById(postId)
+        List<UploadedImage> uploadedImages = awsS3Uploader.uploadAll(postImages, "post");
+        List<String> newImageUrls = UploadedImage.urls(uploadedImages);
+        try {
+            return new TransactionTemplate(transactionManager).execute(status ->
+                    applyPostUpdate(postId, postPatchRequestDto, newImageUrls));
+        } catch (RuntimeException e) {
+            // 수정 실패 시 업로드한 이미지 정리
+            awsS3Uploader.deleteAll(uploadedImages);
+            throw e;
+        }
+    }
+
+    private PostResponseDto applyPostUpdate(Long postId, PostPatchRequestDto postPatchRequestDto, List<String> newImageUrls) {
+        Post post = postRepository.findWithUserAndCategoryById(postId)
                 .orElseThrow(() -> new IllegalArgumentException("게시글이 존재하지 않습니다."));
 
-        if(post.getCategory().getId() == 4L)
+        CategoryPolicy policy = categoryRegistry.get(post.getCategory().getId());
+        if (policy.adminOnly())
             checkAdminAuthority();
 
-        // 새로 업로드된 이미지 처리
-        List<String> newImageUrls = new ArrayList<>();
-        System.out.println("업로드할 이미지 개수: " + (postImages != null ? postImages.length : 0));
-        
-        if (postImages != null && postImages.length > 0) {
-            for (MultipartFile postImage : postImages) {
-                System.out.println("이미지 업로드 시작: " + postImage.getOriginalFilename());
-                String uploadedUrl = awsS3Uploader.upload(postImage, "post");
-                System.out.println("이미지 업로드 완료: " + uploadedUrl);
-                newImageUrls.add(uploadedUrl);
-            }
-        }
-
         // 기존 이미지 URL과 새 이미지 URL 결합
         List<String> combinedImageUrls = new ArrayList<>();
         
         // 기존 이미지 URL 추가 (DTO에서 가져오거나 기존 게시글에서 가져옴)
         String[] existingImageUrls = postPatchRequestDto.getImageUrl() != null ? 
             postPatchRequestDto.getImageUrl() : post.getImageUrl();
-        
-        System.out.println("기존 이미지 URL 개수: " + (existingImageUrls != null ? existingImageUrls.length : 0));
-        System.out.println("새로 업로드된 이미지 URL 개수: " + newImageUrls.size());
-        
+
         if (existingImageUrls != null) {
             for (String url : existingImageUrls) {
                 if (url != null && !url.trim().isEmpty()) {
@@ -352,11 +434,11 @@ public class PostService {
 
         // 새로 업로드된 이미지 URL 추가
         combinedImageUrls.addAll(newImageUrls);
-        System.out.println("최종 결합된 이미지 URL 개수: " + combinedImageUrls.size());
+        log.debug("게시글 {} 이미지 수정: 기존 {}개, 신규 {}개, 최종 {}개", postId,
+                existingImageUrls != null ? existingImageUrls.length : 0, newImageUrls.size(), combinedImageUrls.size());
 
         // 결과 배열 생성
         String[] finalImageUrls = combinedImageUrls.isEmpty() ? null : combinedImageUrls.toArray(new String[0]);
-        System.out.println("최종 이미지 URL 배열: " + Arrays.toString(finalImageUrls));
 
         // 게시글 업데이트
         post.update(
@@ -364,9 +446,12 @@ public class PostService {
             postPatchRequestDto.getContent(),
             finalImageUrls
         );
+        post.refreshDisplayImages(policy.verificationBoard());
 
         // 업데이트된 게시글을 저장하고 응답 DTO 생성
         Post updatedPost = postRepository.save(post);
+        postDetailCacheService.evict(postId);
+        eventPublisher.publishEvent(new PostUpdatedEvent(this, updatedPost));
         PostResponseDto responseDto = PostResponseDto.fromEntity(updatedPost);
         responseDto.setImageUrl(finalImageUrls); // 최종 이미지 URL 설정
         
@@ -393,7 +478,12 @@ public class PostService {
         // 연관된 데이터 삭제
         reportRepository.unlinkReportsFromPost(postId);
         verificationRepository.deleteByPost(post);
+        timelineService.removePost(postId);
+        postRankingService.remove(postId);
+        postDetailCacheService.evict(postId);
+        postQuotaService.release(post.getUser().getId(), post.getCategory().getId(), post.getCreatedAt());
         postRepository.delete(post);
+        eventPublisher.publishEvent(new PostDeletedEvent(this, postId));
     }
 
 
@@ -401,53 +491,76 @@ public class PostService {
     // 게시글 SEARCH
     @Transactional(readOnly = true)
     public List<PostResponseDto> searchPosts(String type, String keyword) {
-        // PostRepository에서 검색 조건에 맞는 게시글 목록 조회
-        List<Post> posts = postRepository.searchByTypeAndKeyword(type, keyword);
+        // 검색 색인에서 검색 조건에 맞는 게시글 ID 조회 (관련도순)
+        List<Long> postIds = postSearchService.search(type, keyword);
 
         // Entity → DTO 변환 후 결과 리스트 반환 (인증 상태 추가)
-        return posts.stream()
-                .map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post))
-                .collect(Collectors.toList());
+        return toSummaryResponseDtos(findSummariesInOrder(postIds));
     }
 
+    // sortField가 score면 관련도(BM25)순, 그 외 필드는 검색된 ID 안에서 DB 정렬
     @Transactional(readOnly = true)
     public Page<PostResponseDto> searchPostsPageable(String type, String keyword, int page, int size, String sortField, Sort.Direction direction) {
-        Sort sort = Sort.by(direction, sortField);
-        Pageable pageable = PageRequest.of(page, size, sort);
-        Page<Post> postPage = postRepository.searchByTypeAndKeywordPageable(type, keyword, pageable);
-        return postPage.map(post -> setVerificationStatus(PostResponseDto.fromEntity(post), post));
-    }
+        List<Long> postIds = postSearchService.search(type, keyword);
+        if (postIds.isEmpty()) {
+            return Page.empty(PageRequest.of(page, size));
+        }
 
-    // 게시글 갯수 제한 헬퍼
-    @Transactional(readOnly = true)
-    public int countPostsByUserAndCategoryToday(Long userId, Long categoryId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+        if (SEARCH_SCORE_SORT.equals(sortField)) {
+            int from = Math.min(page * size, postIds.size());
+            int to = Math.min(from + size, postIds.size());
+            List<PostSummaryDto> posts = findSummariesInOrder(postIds.subList(from, to));
+            return toSummaryResponseDtoPage(new PageImpl<>(posts, PageRequest.of(page, size), postIds.size()));
+        }
 
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(23, 59, 59);
+        Pageable pageable = PageRequest.of(page, size, Sort.by(direction, sortField));
+        return toSummaryResponseDtoPage(postRepository.findSummariesByIdIn(postIds, pageable));
+    }
 
-        return (int) postRepository.countByUserIdAndCategoryIdAndCreatedAtBetween(userId, categoryId, startOfDay, endOfDay);
+    // 표시용 이미지가 없는 기존 게시글 보정 (배치 단위로 나눠서 커밋)
+    public int backfillDisplayImages() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            final long afterId = lastId;
+            List<Post> posts = transactionTemplate.execute(status -> {
+                List<Post> batch = postRepository.findWithoutDisplayImagesAfterId(afterId, PageRequest.of(0, DISPLAY_IMAGE_BACKFILL_BATCH_SIZE));
+                for (Post post : batch) {
+                    post.refreshDisplayImages(categoryRegistry.isVerificationBoard(post.getCategory().getId()));
+                }
+                return batch;
+            });
+            if (posts == null || posts.isEmpty()) {
+                return total;
+            }
+            total += posts.size();
+            lastId = posts.get(posts.size() - 1).getId();
+        }
     }
 
+    // 로그인 사용자 기준 좋아요/작성자 팔로우 여부 일괄 설정 (게시글 ID, 작성자 ID 각각 IN 쿼리 한 번)
     @Transactional(readOnly = true)
-    public boolean hasUserPostedVerificationToday(Long userId) {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
-        LocalDateTime startOfDay = LocalDate.now().atStartOfDay();
-        LocalDateTime endOfDay = LocalDate.now().atTime(23, 59, 59);
+    public void applyViewerContext(List<PostResponseDto> posts, Long viewerId) {
+        if (posts.isEmpty()) {
+            return;
+        }
+        Set<Long> postIds = posts.stream().map(PostResponseDto::getPostId).collect(Collectors.toSet());
+        Set<Long> authorIds = posts.stream().map(PostResponseDto::getUserId).collect(Collectors.toSet());
 
-        // 인증게시판 카테고리 ID (1L)로 오늘 작성한 게시글 수 확인
-        int count = (int) postRepository.countByUserIdAndCategoryIdAndCreatedAtBetween(userId, 1L, startOfDay, endOfDay);
+        Set<Long> likedPostIds = new HashSet<>(postLikeRepository.findLikedPostIds(viewerId, postIds));
+        Set<Long> followingIds = new HashSet<>(followRepository.findFollowingIdsIn(viewerId, authorIds));
 
-        return count > 0;
+        for (PostResponseDto post : posts) {
+            post.setLikedByMe(likedPostIds.contains(post.getPostId()));
+            post.setFollowingAuthor(followingIds.contains(post.getUserId()));
+        }
     }
 
     // 인증 상태 설정
     private PostResponseDto setVerificationStatus(PostResponseDto dto, Post post) {
-        // 인증 게시판(카테고리 ID: 1)인 경우에만 상태값 설정
-        if (post.getCategory().getId() == 1L) {
+        // 인증 게시판인 경우에만 상태값 설정
+        if (categoryRegistry.isVerificationBoard(post.getCategory().getId())) {
             // 해당 게시글에 연결된 Verification 조회
             Optional<Verification> verification = verificationRepository.findByPostId(post.getId());
 
@@ -462,4 +575,80 @@ public class PostService {
 
         return dto;
     }
+
+    // ID 목록 순서대로 게시글 조회 (없어진 게시글은 제외)
+    private List<PostSummaryDto> findSummariesInOrder(List<Long> postIds) {
+        if (postIds.isEmpty()) {
+            return List.of();
+        }
+        Map<Long, PostSummaryDto> summaryMap = postRepository.findSummariesByIdIn(postIds).stream()
+                .collect(Collectors.toMap(PostSummaryDto::postId, Function.identity()));
+        return postIds.stream()
+                .map(summaryMap::get)
+                .filter(Objects::nonNull)
+                .toList();
+    }
+
+    // 게시글 목록 DTO 변환 (인증 상태는 한 번의 IN 쿼리로 일괄 설정)
+    private List<PostResponseDto> toSummaryResponseDtos(List<PostSummaryDto> summaries) {
+        List<PostResponseDto> dtos = summaries.stream()
+                .map(PostResponseDto::fromSummary)
+                .collect(Collectors.toList());
+        setVerificationStatuses(dtos);
+        setThumbnails(dtos);
+        return dtos;
+    }
+
+    private Page<PostResponseDto> toSummaryResponseDtoPage(Page<PostSummaryDto> summaryPage) {
+        return new PageImpl<>(toSummaryResponseDtos(summaryPage.getContent()), summaryPage.getPageable(), summaryPage.getTotalElements());
+    }
+
+    // size + 1 개 조회 결과로 커서 응답 생성
+    private CursorResponseDto<PostResponseDto> toCursorResponse(List<PostSummaryDto> posts, int size, Function<PostSummaryDto, String> cursorOf) {
+        boolean hasNext = posts.size() > size;
+        List<PostSummaryDto> content = hasNext ? posts.subList(0, size) : posts;
+        String nextCursor = hasNext ? cursorOf.apply(content.get(content.size() - 1)) : null;
+
+        return new CursorResponseDto<>(toSummaryResponseDtos(content), nextCursor, hasNext);
+    }
+
+    // 인증 상태 일괄 설정
+    private void setVerificationStatuses(List<PostResponseDto> dtos) {
+        // 인증 게시판 게시글만 대상
+        List<Long> verificationPostIds = dtos.stream()
+                .filter(dto -> categoryRegistry.isVerificationBoard(dto.getCategoryId()))
+                .map(PostResponseDto::getPostId)
+                .toList();
+
+        if (verificationPostIds.isEmpty()) {
+            return;
+        }
+
+        Map<Long, VerificationStatus> statuses = verificationService.getStatusesByPostIds(verificationPostIds);
+
+        for (PostResponseDto dto : dtos) {
+            if (categoryRegistry.isVerificationBoard(dto.getCategoryId())) {
+                // Verification이 없으면 기본값 PENDING 설정
+                dto.setStatus(statuses.getOrDefault(dto.getPostId(), VerificationStatus.PENDING).toString());
+            }
+        }
+    }
+
+    // 썸네일 일괄 설정 (페이지의 모든 이미지 URL을 한 번의 IN 쿼리로 조회)
+    private void setThumbnails(List<PostResponseDto> dtos) {
+        List<String> imageUrls = new ArrayList<>();
+        for (PostResponseDto dto : dtos) {
+            if (dto.getImageUrl() != null) {
+                imageUrls.addAll(Arrays.asList(dto.getImageUrl()));
+            }
+            if (dto.getVerificationImageUrl() != null) {
+                imageUrls.add(dto.getVerificationImageUrl());
+            }
+        }
+
+        Map<String, ImageVariantUrls> variants = imageVariantService.getVariants(imageUrls);
+        for (PostResponseDto dto : dtos) {
+            dto.applyThumbnails(variants);
+        }
+    }
 }
@@ -0,0 +1,126 @@
+package com.dd.blog.domain.post.post.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// 게시글 조회수 write-behind 버퍼
+// 조회 시에는 메모리 카운터만 증가시키고(락 없음), 주기적으로 모아서 한 번의 배치 UPDATE로 반영
+@Slf4j
+@Service
+public class PostViewCountService {
+
+    private static final String FLUSH_SQL = "UPDATE post SET view_count = view_count + ? WHERE id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+    private final PostDetailCacheService postDetailCacheService;
+
+    // postId -> 아직 DB에 반영되지 않은 조회수
+    private final Map<Long, ViewCounter> pendingCounts = new ConcurrentHashMap<>();
+
+    public PostViewCountService(JdbcTemplate jdbcTemplate, PlatformTransactionManager transactionManager,
+                                PostDetailCacheService postDetailCacheService) {
+        this.jdbcTemplate = jdbcTemplate;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        this.postDetailCacheService = postDetailCacheService;
+    }
+
+    // 맵 조회 + LongAdder 증가만 수행 (맵 락은 게시글별 첫 조회에서만 잡힘)
+    // flush가 맵에서 제거 중인 카운터에 더했으면 되돌리고 새 카운터에 다시 더함
+    public void increase(Long postId) {
+        while (true) {
+            ViewCounter counter = pendingCounts.get(postId);
+            if (counter == null) {
+                counter = pendingCounts.computeIfAbsent(postId, id -> new ViewCounter());
+            }
+            counter.pending.increment();
+            if (!counter.retired) {
+                return;
+            }
+            counter.pending.decrement();
+            Thread.onSpinWait();
+        }
+    }
+
+    // 아직 반영되지 않은 조회수 (상세 조회 응답 보정용, 반영 중인 조회수 포함)
+    public long getPendingCount(Long postId) {
+        ViewCounter counter = pendingCounts.get(postId);
+        return counter != null ? counter.pending.sum() + counter.flushing : 0;
+    }
+
+    @Scheduled(fixedDelay = 5000)
+    public synchronized void flush() {
+        List<Object[]> batchArgs = new ArrayList<>();
+        List<ViewCounter> counters = new ArrayList<>();
+
+        for (Map.Entry<Long, ViewCounter> entry : pendingCounts.entrySet()) {
+            ViewCounter counter = entry.getValue();
+            long delta = counter.pending.sum();
+
+            if (delta == 0) {
+                // 한 주기 동안 조회가 없었던 게시글은 맵에서 제거
+                // 제거 표시를 먼저 하고 다시 확인 → 그 뒤에 더해진 조회수는 increase()가 새 카운터로 옮김
+                counter.retired = true;
+                if (counter.pending.sum() == 0) {
+                    pendingCounts.remove(entry.getKey(), counter);
+                } else {
+                    counter.retired = false;
+                }
+                continue;
+            }
+
+            // 읽은 만큼만 반영 중으로 옮김 → 그 사이 들어온 조회수는 다음 주기에 반영
+            counter.pending.add(-delta);
+            counter.flushing = delta;
+            batchArgs.add(new Object[]{delta, entry.getKey()});
+            counters.add(counter);
+        }
+
+        if (batchArgs.isEmpty()) {
+            return;
+        }
+
+        try {
+            transactionTemplate.executeWithoutResult(status -> jdbcTemplate.batchUpdate(FLUSH_SQL, batchArgs));
+        } catch (Exception e) {
+            // 반영 실패 시 반영 중이던 조회수를 되돌려 다음 주기에 재시도
+            for (ViewCounter counter : counters) {
+                counter.pending.add(counter.flushing);
+                counter.flushing = 0;
+            }
+            log.error("조회수 반영 실패 ({}건)", batchArgs.size(), e);
+            return;
+        }
+
+        for (int i = 0; i < counters.size(); i++) {
+            Object[] args = batchArgs.get(i);
+            postDetailCacheService.addViewCount((Long) args[1], (Long) args[0]);
+            counters.get(i).flushing = 0;
+        }
+    }
+
+    // 서버 종료 시 남은 조회수 반영
+    @PreDestroy
+    public void flushOnShutdown() {
+        flush();
+    }
+
+    private static class ViewCounter {
+        private final LongAdder pending = new LongAdder();
+        // flush가 DB에 반영 중인 조회수 (flush 스레드만 변경)
+        private volatile long flushing;
+        // flush가 맵에서 제거하는 중인지 여부
+        private volatile boolean retired;
+    }
+}
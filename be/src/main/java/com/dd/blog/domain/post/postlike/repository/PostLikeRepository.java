@@ -4,8 +4,13 @@ import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.postlike.entity.PostLike;
 import com.dd.blog.domain.user.user.entity.User;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.Collection;
+import java.util.List;
 import java.util.Optional;
 
 @Repository
@@ -13,4 +18,18 @@ public interface PostLikeRepository extends JpaRepository<PostLike, Long> {
     Optional<PostLike> findByUserAndPost(User user, Post post);
     long countByPost(Post post);
     boolean existsByUserAndPost(User user, Post post);
+
+    // 주어진 게시글 중 userId가 좋아요한 게시글 ID 목록
+    @Query("SELECT pl.post.id FROM PostLike pl WHERE pl.user.id = :userId AND pl.post.id IN :postIds")
+    List<Long> findLikedPostIds(@Param("userId") Long userId, @Param("postIds") Collection<Long> postIds);
+
+    // 이미 좋아요한 경우 post_like_uk에 걸려 무시됨 (추가되면 1, 아니면 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO post_like (post_id, user_id, created_at, updated_at) " +
+            "VALUES (:postId, :userId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIgnore(@Param("postId") Long postId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query("DELETE FROM PostLike pl WHERE pl.post.id = :postId AND pl.user.id = :userId")
+    int deleteByPostIdAndUserId(@Param("postId") Long postId, @Param("userId") Long userId);
 }
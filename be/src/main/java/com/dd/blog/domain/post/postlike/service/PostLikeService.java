@@ -1,10 +1,13 @@
 package com.dd.blog.domain.post.postlike.service;
 
+import com.dd.blog.domain.post.post.dto.PostLikeStatDto;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
 import com.dd.blog.domain.post.postlike.dto.LikeResponseDto;
 import com.dd.blog.domain.post.postlike.entity.PostLike;
 import com.dd.blog.domain.post.postlike.repository.PostLikeRepository;
+import com.dd.blog.domain.post.ranking.service.PostRankingService;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import com.dd.blog.global.exception.ApiException;
@@ -20,40 +23,46 @@ public class PostLikeService {
     private final PostLikeRepository postLikeRepository;
     private final PostRepository postRepository;
     private final UserRepository userRepository;
+    private final PostRankingService postRankingService;
+    private final PostDetailCacheService postDetailCacheService;
 
     // LIKE
+    // 조회 후 저장(read-modify-write) 대신 INSERT IGNORE + 원자적 UPDATE로 처리
     @Transactional
     public LikeResponseDto addLike(Long userId, Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-
-        if (postLikeRepository.findByUserAndPost(user, post).isPresent()) {
-            return new LikeResponseDto(postId, (long) post.getLikeCount(), true); // 이미 좋아요 되어있음
+        if (postLikeRepository.insertIgnore(postId, userId) == 0) {
+            // 이미 좋아요 되어있음 (또는 게시글 없음)
+            PostLikeStatDto stat = postRepository.findLikeStatById(postId)
+                    .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+            return new LikeResponseDto(postId, (long) stat.likeCount(), true);
         }
 
-        postLikeRepository.save(new PostLike(post, user));
-        post.increaseLikeCount(); // 게시글의 좋아요 수 증가 (메서드 없으면 추가 필요)
+        postRepository.increaseLikeCount(postId);
+        PostLikeStatDto stat = postRepository.findLikeStatById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+        postRankingService.recordLike(postId, stat.categoryId());
+        postDetailCacheService.evict(postId);
 
-        return new LikeResponseDto(postId, (long) post.getLikeCount(), true);
+        return new LikeResponseDto(postId, (long) stat.likeCount(), true);
     }
 
     // UNLIKE
     @Transactional
     public LikeResponseDto deleteLike(Long userId, Long postId) {
-        Post post = postRepository.findById(postId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-
-        PostLike postLike = postLikeRepository.findByUserAndPost(user, post)
-                .orElseThrow(() -> new IllegalArgumentException("좋아요 이력이 존재하지 않습니다."));
+        if (postLikeRepository.deleteByPostIdAndUserId(postId, userId) == 0) {
+            if (!postRepository.existsById(postId)) {
+                throw new IllegalArgumentException("해당 게시글이 존재하지 않습니다.");
+            }
+            throw new IllegalArgumentException("좋아요 이력이 존재하지 않습니다.");
+        }
 
-        postLikeRepository.delete(postLike);
-        post.decreaseLikeCount(); // 게시글의 좋아요 수 감소 (메서드 없으면 추가 필요)
+        postRepository.decreaseLikeCount(postId);
+        PostLikeStatDto stat = postRepository.findLikeStatById(postId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 게시글이 존재하지 않습니다."));
+        postRankingService.recordUnlike(postId, stat.categoryId());
+        postDetailCacheService.evict(postId);
 
-        return new LikeResponseDto(postId, (long) post.getLikeCount(), false);
+        return new LikeResponseDto(postId, (long) stat.likeCount(), false);
     }
 
     @Transactional(readOnly = true)
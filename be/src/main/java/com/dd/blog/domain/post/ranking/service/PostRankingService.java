@@ -0,0 +1,181 @@
+package com.dd.blog.domain.post.ranking.service;
+
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.ZoneId;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+
+// 인기 게시글 랭킹 (메모리)
+// 조회/좋아요/댓글 발생 시 가중치를 시간 감쇠 점수로 누적하고, 주기적으로 카테고리별·전체 TOP K를 갱신
+// 점수는 forward decay 방식: w * e^(λ(t - base)) 로 누적 → 비교 시 매번 감쇠 계산이 필요 없음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostRankingService {
+
+    private static final double VIEW_WEIGHT = 1.0;
+    private static final double LIKE_WEIGHT = 5.0;
+    private static final double COMMENT_WEIGHT = 3.0;
+
+    // 점수 반감기 6시간
+    private static final double DECAY_RATE = Math.log(2) / (6 * 60 * 60 * 1000.0);
+    // 기준 시각 재설정 주기 (점수가 너무 커지지 않도록)
+    private static final long REBASE_INTERVAL_MILLIS = 7L * 24 * 60 * 60 * 1000;
+
+    // 랭킹에 노출할 최대 개수
+    public static final int MAX_TOP_K = 20;
+    // 점수를 유지하는 후보 게시글 최대 개수 (초과 시 점수 낮은 순으로 제거)
+    private static final int MAX_CANDIDATES = 5000;
+    // 서버 시작 시 점수를 복원할 최근 게시글 범위
+    private static final int WARM_UP_DAYS = 3;
+
+    private final PostRepository postRepository;
+
+    private final Map<Long, Candidate> candidates = new ConcurrentHashMap<>();
+    private final ReadWriteLock rebaseLock = new ReentrantReadWriteLock();
+    private volatile long baseMillis = System.currentTimeMillis();
+
+    // 주기적으로 갱신되는 TOP K 스냅샷 (조회 시 그대로 반환)
+    private volatile List<Long> globalTop = List.of();
+    private volatile Map<Long, List<Long>> categoryTop = Map.of();
+
+    private record Candidate(long categoryId, double score) {
+    }
+
+    public void recordView(Long postId, Long categoryId) {
+        record(postId, categoryId, VIEW_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordLike(Long postId, Long categoryId) {
+        record(postId, categoryId, LIKE_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordUnlike(Long postId, Long categoryId) {
+        record(postId, categoryId, -LIKE_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void recordComment(Post post) {
+        record(post.getId(), post.getCategory().getId(), COMMENT_WEIGHT, System.currentTimeMillis());
+    }
+
+    public void remove(Long postId) {
+        candidates.remove(postId);
+    }
+
+    // 인기 게시글 ID 목록 (categoryId가 null이면 전체)
+    public List<Long> getHotPostIds(Long categoryId, int size) {
+        List<Long> top = categoryId == null ? globalTop : categoryTop.getOrDefault(categoryId, List.of());
+        int limit = Math.min(size, top.size());
+        return top.subList(0, limit);
+    }
+
+    // 서버 시작 시 최근 게시글의 누적 지표로 점수 복원
+    @Transactional(readOnly = true)
+    public void warmUp() {
+        List<Post> recentPosts = postRepository.findByCreatedAtAfter(LocalDateTime.now().minusDays(WARM_UP_DAYS));
+        for (Post post : recentPosts) {
+            double weight = post.getViewCount() * VIEW_WEIGHT
+                    + post.getLikeCount() * LIKE_WEIGHT
+                    + post.getCommentCount() * COMMENT_WEIGHT;
+            long createdMillis = post.getCreatedAt().atZone(ZoneId.systemDefault()).toInstant().toEpochMilli();
+            record(post.getId(), post.getCategory().getId(), weight, createdMillis);
+        }
+        refreshTop();
+        log.info("인기 게시글 랭킹 복원: 최근 게시글 {}건", recentPosts.size());
+    }
+
+    // TOP K 스냅샷 갱신 (10초마다)
+    @Scheduled(fixedDelay = 10000)
+    public void refreshTop() {
+        rebaseIfNeeded();
+
+        Comparator<Map.Entry<Long, Candidate>> byScore = Comparator.comparingDouble(e -> e.getValue().score());
+        PriorityQueue<Map.Entry<Long, Candidate>> globalHeap = new PriorityQueue<>(byScore);
+        Map<Long, PriorityQueue<Map.Entry<Long, Candidate>>> categoryHeaps = new HashMap<>();
+
+        for (Map.Entry<Long, Candidate> entry : candidates.entrySet()) {
+            Map.Entry<Long, Candidate> snapshot = Map.entry(entry.getKey(), entry.getValue());
+            offer(globalHeap, snapshot, MAX_TOP_K);
+            offer(categoryHeaps.computeIfAbsent(snapshot.getValue().categoryId(), id -> new PriorityQueue<>(byScore)), snapshot, MAX_TOP_K);
+        }
+
+        Map<Long, List<Long>> newCategoryTop = new HashMap<>();
+        categoryHeaps.forEach((categoryId, heap) -> newCategoryTop.put(categoryId, toDescendingIds(heap)));
+
+        globalTop = toDescendingIds(globalHeap);
+        categoryTop = Map.copyOf(newCategoryTop);
+
+        evictIfNeeded();
+    }
+
+    private void record(long postId, long categoryId, double weight, long eventMillis) {
+        rebaseLock.readLock().lock();
+        try {
+            double scaled = weight * Math.exp(DECAY_RATE * (eventMillis - baseMillis));
+            candidates.merge(postId, new Candidate(categoryId, scaled),
+                    (old, added) -> new Candidate(categoryId, old.score() + added.score()));
+        } finally {
+            rebaseLock.readLock().unlock();
+        }
+    }
+
+    // 기준 시각이 오래되면 모든 점수를 현재 기준으로 환산 (상대 순위는 그대로)
+    private void rebaseIfNeeded() {
+        long now = System.currentTimeMillis();
+        if (now - baseMillis < REBASE_INTERVAL_MILLIS) {
+            return;
+        }
+
+        rebaseLock.writeLock().lock();
+        try {
+            double factor = Math.exp(-DECAY_RATE * (now - baseMillis));
+            candidates.replaceAll((postId, candidate) -> new Candidate(candidate.categoryId(), candidate.score() * factor));
+            baseMillis = now;
+        } finally {
+            rebaseLock.writeLock().unlock();
+        }
+    }
+
+    // 후보가 너무 많으면 점수 낮은 게시글부터 제거
+    private void evictIfNeeded() {
+        int overflow = candidates.size() - MAX_CANDIDATES;
+        if (overflow <= 0) {
+            return;
+        }
+
+        candidates.entrySet().stream()
+                .sorted(Comparator.comparingDouble(e -> e.getValue().score()))
+                .limit(overflow)
+                .map(Map.Entry::getKey)
+                .toList()
+                .forEach(candidates::remove);
+    }
+
+    private static void offer(PriorityQueue<Map.Entry<Long, Candidate>> heap, Map.Entry<Long, Candidate> entry, int k) {
+        if (heap.size() < k) {
+            heap.offer(entry);
+        } else if (heap.peek().getValue().score() < entry.getValue().score()) {
+            heap.poll();
+            heap.offer(entry);
+        }
+    }
+
+    private static List<Long> toDescendingIds(PriorityQueue<Map.Entry<Long, Candidate>> heap) {
+        List<Long> ids = new ArrayList<>(heap.size());
+        while (!heap.isEmpty()) {
+            ids.add(heap.poll().getKey());
+        }
+        Collections.reverse(ids);
+        return List.copyOf(ids);
+    }
+}
@@ -0,0 +1,5 @@
+package com.dd.blog.domain.post.search.dto;
+
+// 검색 색인 대상 게시글 필드 (nickname은 작성자 검색 색인용, 알 수 없으면 null)
+public record PostSearchDocument(Long postId, Long userId, String nickname, String title, String content) {
+}
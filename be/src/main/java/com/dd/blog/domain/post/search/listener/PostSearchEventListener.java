@@ -0,0 +1,51 @@
+package com.dd.blog.domain.post.search.listener;
+
+import com.dd.blog.domain.post.event.PostCreatedEvent;
+import com.dd.blog.domain.post.event.PostDeletedEvent;
+import com.dd.blog.domain.post.event.PostUpdatedEvent;
+import com.dd.blog.domain.post.search.service.PostSearchService;
+import com.dd.blog.domain.user.user.event.UserNicknameChangedEvent;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 커밋된 변경만 색인에 반영
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostSearchEventListener {
+
+    private final PostSearchService postSearchService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostCreatedEvent(PostCreatedEvent event) {
+
+        try {
+            postSearchService.index(event.getPost());
+        } catch (Exception e) {
+            log.error("검색 색인 추가 실패 postId = {}", event.getPost().getId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostUpdatedEvent(PostUpdatedEvent event) {
+
+        try {
+            postSearchService.index(event.getPost());
+        } catch (Exception e) {
+            log.error("검색 색인 갱신 실패 postId = {}", event.getPost().getId(), e);
+        }
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostDeletedEvent(PostDeletedEvent event) {
+        postSearchService.remove(event.getPostId());
+    }
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handleUserNicknameChangedEvent(UserNicknameChangedEvent event) {
+        postSearchService.indexWriter(event.getUserId(), event.getNickname());
+    }
+}
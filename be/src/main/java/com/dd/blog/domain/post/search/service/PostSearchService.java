@@ -0,0 +1,311 @@
+package com.dd.blog.domain.post.search.service;
+
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.search.dto.PostSearchDocument;
+import com.dd.blog.global.utils.BigramTokenizer;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.hibernate.Hibernate;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.*;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+
+// 게시글 검색 (메모리 역색인)
+// 제목/본문을 bigram으로 색인하고 BM25로 점수 계산, 작성자 검색은 닉네임 bigram 색인으로 찾은 사용자의 게시글
+// 게시글 생성/수정/삭제, 닉네임 변경 이벤트로 색인을 갱신하고, 서버 시작 시 전체 게시글로 재구성
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class PostSearchService {
+
+    // BM25 파라미터
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    // 검색 결과 최대 개수
+    public static final int MAX_RESULTS = 1000;
+    private static final int REBUILD_BATCH_SIZE = 1000;
+
+    private final PostRepository postRepository;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private IndexState state = new IndexState();
+    // 재구성 중 들어온 변경 (교체 직전 새 색인에 다시 반영, 재구성 중이 아니면 null)
+    private List<Consumer<IndexState>> changesDuringRebuild;
+
+    // 검색 결과 게시글 ID 목록 (점수 높은 순, 동점이면 최신순)
+    public List<Long> search(String type, String keyword) {
+        if (keyword == null || keyword.isBlank()) {
+            return List.of();
+        }
+
+        if ("writer".equals(type)) {
+            return searchByWriter(keyword.trim());
+        }
+
+        List<String> queryTokens = BigramTokenizer.tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, Double> scores;
+        lock.readLock().lock();
+        try {
+            if ("title".equals(type)) {
+                scores = state.title.score(queryTokens);
+            } else if ("content".equals(type)) {
+                scores = state.content.score(queryTokens);
+            } else {
+                return List.of();
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        return scores.entrySet().stream()
+                .sorted(Map.Entry.<Long, Double>comparingByValue().reversed()
+                        .thenComparing(Map.Entry.<Long, Double>comparingByKey().reversed()))
+                .limit(MAX_RESULTS)
+                .map(Map.Entry::getKey)
+                .toList();
+    }
+
+    public void index(Post post) {
+        // 작성자가 로딩되지 않은 프록시면 닉네임은 기존 색인 유지
+        String nickname = Hibernate.isInitialized(post.getUser()) ? post.getUser().getNickname() : null;
+        index(new PostSearchDocument(post.getId(), post.getUser().getId(), nickname, post.getTitle(), post.getContent()));
+    }
+
+    public void index(PostSearchDocument document) {
+        List<String> titleTokens = BigramTokenizer.tokenize(document.title());
+        List<String> contentTokens = BigramTokenizer.tokenize(document.content());
+
+        apply(target -> {
+            target.remove(document.postId());
+            target.add(document, titleTokens, contentTokens);
+        });
+    }
+
+    public void remove(Long postId) {
+        apply(target -> target.remove(postId));
+    }
+
+    // 닉네임 변경 반영
+    public void indexWriter(Long userId, String nickname) {
+        List<String> tokens = BigramTokenizer.tokenize(nickname);
+        apply(target -> target.putWriter(userId, nickname, tokens));
+    }
+
+    // 전체 게시글로 색인 재구성
+    // 재구성 중 들어온 변경은 기존 색인에 반영하면서 따로 모아두었다가 교체 직전 새 색인에 다시 반영
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        lock.writeLock().lock();
+        try {
+            changesDuringRebuild = new ArrayList<>();
+        } finally {
+            lock.writeLock().unlock();
+        }
+
+        IndexState newState = new IndexState();
+        try {
+            long lastId = 0L;
+            while (true) {
+                List<PostSearchDocument> documents = postRepository.findSearchDocumentsAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+                for (PostSearchDocument document : documents) {
+                    newState.add(document, BigramTokenizer.tokenize(document.title()), BigramTokenizer.tokenize(document.content()));
+                }
+                if (documents.size() < REBUILD_BATCH_SIZE) {
+                    break;
+                }
+                lastId = documents.get(documents.size() - 1).postId();
+            }
+
+            lock.writeLock().lock();
+            try {
+                // 같은 변경을 두 번 반영해도 결과가 같음 (색인은 삭제 후 추가, 삭제는 없으면 무시)
+                changesDuringRebuild.forEach(change -> change.accept(newState));
+                log.info("게시글 검색 색인 재구성 중 변경 {}건 반영", changesDuringRebuild.size());
+                state = newState;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        } finally {
+            lock.writeLock().lock();
+            try {
+                changesDuringRebuild = null;
+            } finally {
+                lock.writeLock().unlock();
+            }
+        }
+        log.info("게시글 검색 색인 구성: {}건", newState.authorByPost.size());
+    }
+
+    private void apply(Consumer<IndexState> change) {
+        lock.writeLock().lock();
+        try {
+            change.accept(state);
+            if (changesDuringRebuild != null) {
+                changesDuringRebuild.add(change);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    // 닉네임 bigram이 모두 포함된 사용자 중 닉네임에 검색어가 그대로 들어있는 사용자의 게시글
+    private List<Long> searchByWriter(String keyword) {
+        List<String> queryTokens = BigramTokenizer.tokenize(keyword);
+        if (queryTokens.isEmpty()) {
+            return List.of();
+        }
+        String normalizedKeyword = BigramTokenizer.normalize(keyword);
+
+        List<Long> postIds = new ArrayList<>();
+        lock.readLock().lock();
+        try {
+            for (Long userId : state.writer.score(queryTokens).keySet()) {
+                if (state.nicknames.get(userId).contains(normalizedKeyword)) {
+                    postIds.addAll(state.postsByAuthor.getOrDefault(userId, Set.of()));
+                }
+            }
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        postIds.sort(Comparator.reverseOrder());
+        return postIds.size() > MAX_RESULTS ? postIds.subList(0, MAX_RESULTS) : postIds;
+    }
+
+    // 색인 전체 상태 (재구성 시 통째로 교체)
+    private static class IndexState {
+        private final FieldIndex title = new FieldIndex();
+        private final FieldIndex content = new FieldIndex();
+        private final Map<Long, Long> authorByPost = new HashMap<>();
+        private final Map<Long, Set<Long>> postsByAuthor = new HashMap<>();
+        // 작성자 닉네임 색인 (사용자 ID 기준)
+        private final FieldIndex writer = new FieldIndex();
+        private final Map<Long, String> nicknames = new HashMap<>();
+
+        private void add(PostSearchDocument document, List<String> titleTokens, List<String> contentTokens) {
+            long postId = document.postId();
+            title.add(postId, titleTokens);
+            content.add(postId, contentTokens);
+            authorByPost.put(postId, document.userId());
+            postsByAuthor.computeIfAbsent(document.userId(), id -> new HashSet<>()).add(postId);
+            if (document.nickname() != null && !BigramTokenizer.normalize(document.nickname()).equals(nicknames.get(document.userId()))) {
+                putWriter(document.userId(), document.nickname(), BigramTokenizer.tokenize(document.nickname()));
+            }
+        }
+
+        private void putWriter(long userId, String nickname, List<String> tokens) {
+            writer.remove(userId);
+            writer.add(userId, tokens);
+            nicknames.put(userId, BigramTokenizer.normalize(nickname));
+        }
+
+        private void remove(long postId) {
+            title.remove(postId);
+            content.remove(postId);
+            Long authorId = authorByPost.remove(postId);
+            if (authorId != null) {
+                Set<Long> posts = postsByAuthor.get(authorId);
+                posts.remove(postId);
+                if (posts.isEmpty()) {
+                    postsByAuthor.remove(authorId);
+                }
+            }
+        }
+    }
+
+    // 필드별 역색인: 토큰 -> (게시글 ID -> 등장 횟수)
+    private static class FieldIndex {
+        private final Map<String, Map<Long, Integer>> postings = new HashMap<>();
+        private final Map<Long, Map<String, Integer>> termsByDoc = new HashMap<>();
+        private final Map<Long, Integer> lengthByDoc = new HashMap<>();
+        private long totalLength;
+
+        private void add(long postId, List<String> tokens) {
+            Map<String, Integer> termFrequencies = new HashMap<>();
+            for (String token : tokens) {
+                termFrequencies.merge(token, 1, Integer::sum);
+            }
+            termFrequencies.forEach((term, tf) -> postings.computeIfAbsent(term, t -> new HashMap<>()).put(postId, tf));
+            termsByDoc.put(postId, termFrequencies);
+            lengthByDoc.put(postId, tokens.size());
+            totalLength += tokens.size();
+        }
+
+        private void remove(long postId) {
+            Map<String, Integer> termFrequencies = termsByDoc.remove(postId);
+            if (termFrequencies == null) {
+                return;
+            }
+            for (String term : termFrequencies.keySet()) {
+                Map<Long, Integer> docs = postings.get(term);
+                docs.remove(postId);
+                if (docs.isEmpty()) {
+                    postings.remove(term);
+                }
+            }
+            totalLength -= lengthByDoc.remove(postId);
+        }
+
+        // 모든 질의 토큰을 포함하는 게시글의 BM25 점수
+        private Map<Long, Double> score(List<String> queryTokens) {
+            int docCount = lengthByDoc.size();
+            if (docCount == 0) {
+                return Map.of();
+            }
+            double avgLength = Math.max(1.0, (double) totalLength / docCount);
+
+            List<Map<Long, Integer>> matches = new ArrayList<>();
+            for (String token : new LinkedHashSet<>(queryTokens)) {
+                Map<Long, Integer> docs = postingsFor(token);
+                if (docs.isEmpty()) {
+                    return Map.of();
+                }
+                matches.add(docs);
+            }
+            matches.sort(Comparator.comparingInt(Map::size));
+
+            Map<Long, Double> scores = new HashMap<>();
+            candidates:
+            for (Long postId : matches.get(0).keySet()) {
+                double score = 0;
+                int length = lengthByDoc.get(postId);
+                for (Map<Long, Integer> docs : matches) {
+                    Integer tf = docs.get(postId);
+                    if (tf == null) {
+                        continue candidates;
+                    }
+                    double idf = Math.log(1 + (docCount - docs.size() + 0.5) / (docs.size() + 0.5));
+                    score += idf * tf * (K1 + 1) / (tf + K1 * (1 - B + B * length / avgLength));
+                }
+                scores.put(postId, score);
+            }
+            return scores;
+        }
+
+        // 한 글자 질의는 그 글자를 포함하는 모든 토큰과 매칭 (토큰 사전만 훑고 게시글은 훑지 않음)
+        private Map<Long, Integer> postingsFor(String token) {
+            if (token.codePointCount(0, token.length()) > 1) {
+                return postings.getOrDefault(token, Map.of());
+            }
+
+            Map<Long, Integer> merged = new HashMap<>();
+            postings.forEach((term, docs) -> {
+                if (term.contains(token)) {
+                    docs.forEach((postId, tf) -> merged.merge(postId, tf, Integer::sum));
+                }
+            });
+            return merged;
+        }
+    }
+}
@@ -0,0 +1,40 @@
+package com.dd.blog.domain.post.timeline.entity;
+
+import com.dd.blog.global.jpa.BaseEntity;
+import jakarta.persistence.*;
+import lombok.*;
+import lombok.experimental.SuperBuilder;
+
+// 팔로잉 피드용 타임라인 인박스
+// 게시글 작성 시 작성자의 팔로워마다 한 행씩 미리 적재 (fan-out on write)
+@Entity
+@Getter
+@AllArgsConstructor
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@SuperBuilder
+@ToString
+@Table(
+        name = "timeline_entry",
+        uniqueConstraints = {
+                @UniqueConstraint(
+                        name = "timeline_entry_uk",
+                        columnNames = {"owner_id", "post_id"}
+                )
+        },
+        indexes = {
+                @Index(name = "idx_timeline_owner_author", columnList = "owner_id, author_id"),
+                @Index(name = "idx_timeline_post", columnList = "post_id")
+        }
+)
+public class TimelineEntry extends BaseEntity {
+    // 타임라인 주인 (팔로워)
+    @Column(name = "owner_id", nullable = false)
+    private Long ownerId;
+
+    @Column(name = "post_id", nullable = false)
+    private Long postId;
+
+    // 게시글 작성자 (언팔로우 시 일괄 삭제용)
+    @Column(name = "author_id", nullable = false)
+    private Long authorId;
+}
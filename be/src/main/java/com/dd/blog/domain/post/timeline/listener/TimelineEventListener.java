@@ -0,0 +1,28 @@
+package com.dd.blog.domain.post.timeline.listener;
+
+import com.dd.blog.domain.post.event.PostCreatedEvent;
+import com.dd.blog.domain.post.timeline.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.event.TransactionPhase;
+import org.springframework.transaction.event.TransactionalEventListener;
+
+// 게시글 커밋 후 팔로워 타임라인에 적재 (적재 실패가 게시글 저장을 되돌리지 않도록 별도 트랜잭션)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineEventListener {
+
+    private final TimelineService timelineService;
+
+    @TransactionalEventListener(phase = TransactionPhase.AFTER_COMMIT)
+    public void handlePostCreatedEvent(PostCreatedEvent event) {
+
+        try {
+            timelineService.fanOut(event.getPost());
+        } catch (Exception e) {
+            log.error("타임라인 적재 실패 postId = {}", event.getPost().getId(), e);
+        }
+    }
+}
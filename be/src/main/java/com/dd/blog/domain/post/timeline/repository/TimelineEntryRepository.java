@@ -0,0 +1,57 @@
+package com.dd.blog.domain.post.timeline.repository;
+
+import com.dd.blog.domain.post.timeline.entity.TimelineEntry;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+import java.time.LocalDateTime;
+import java.util.Collection;
+import java.util.List;
+
+public interface TimelineEntryRepository extends JpaRepository<TimelineEntry, Long> {
+
+    // 타임라인 게시글 ID 조회 (최신순, post id는 작성 순서와 같음)
+    @Query("SELECT t.postId FROM TimelineEntry t WHERE t.ownerId = :ownerId ORDER BY t.postId DESC")
+    List<Long> findPostIdsByOwnerId(@Param("ownerId") Long ownerId, Pageable pageable);
+
+    long countByOwnerId(Long ownerId);
+
+    // 타임라인에 이미 적재된 특정 작성자들의 항목 수 (pull 대상으로 바뀌기 전에 적재된 항목)
+    long countByOwnerIdAndAuthorIdIn(Long ownerId, Collection<Long> authorIds);
+
+    // 작성자의 모든 팔로워 타임라인에 게시글 적재 (팔로워 수와 관계없이 쿼리 1번)
+    @Modifying
+    @Query(value = "INSERT INTO timeline_entry (owner_id, post_id, author_id, created_at, updated_at) " +
+            "SELECT f.follower_id, :postId, :authorId, :now, :now FROM follow f " +
+            "WHERE f.following_id = :authorId AND f.follower_id <> :authorId",
+            nativeQuery = true)
+    int fanOut(@Param("postId") Long postId, @Param("authorId") Long authorId, @Param("now") LocalDateTime now);
+
+    // 새로 팔로우한 사용자의 최근 게시글을 타임라인에 채워넣음 (이미 적재된 게시글 제외)
+    @Modifying
+    @Query(value = "INSERT INTO timeline_entry (owner_id, post_id, author_id, created_at, updated_at) " +
+            "SELECT :ownerId, p.id, p.user_id, :now, :now FROM post p " +
+            "WHERE p.user_id = :authorId AND NOT EXISTS (" +
+            "SELECT 1 FROM timeline_entry t WHERE t.owner_id = :ownerId AND t.post_id = p.id) " +
+            "ORDER BY p.id DESC LIMIT :limit",
+            nativeQuery = true)
+    int backfill(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId, @Param("limit") int limit, @Param("now") LocalDateTime now);
+
+    // 언팔로우 시 해당 작성자의 게시글 제거
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.ownerId = :ownerId AND t.authorId = :authorId")
+    void deleteByOwnerIdAndAuthorId(@Param("ownerId") Long ownerId, @Param("authorId") Long authorId);
+
+    // 게시글 삭제 시 모든 타임라인에서 제거
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.postId = :postId")
+    void deleteByPostId(@Param("postId") Long postId);
+
+    // 보관 기간이 지난 항목 정리
+    @Modifying
+    @Query("DELETE FROM TimelineEntry t WHERE t.createdAt < :threshold")
+    int deleteByCreatedAtBefore(@Param("threshold") LocalDateTime threshold);
+}
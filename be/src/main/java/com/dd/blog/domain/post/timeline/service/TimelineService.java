@@ -0,0 +1,201 @@
+package com.dd.blog.domain.post.timeline.service;
+
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.timeline.repository.TimelineEntryRepository;
+import com.dd.blog.domain.user.follow.dto.FollowPairDto;
+import com.dd.blog.domain.user.follow.repository.FollowRepository;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDateTime;
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+// 팔로잉 피드 타임라인
+// - 일반 작성자: 글 작성 시 팔로워 타임라인에 미리 적재 (fan-out on write)
+// - 팔로워가 많은 작성자: 적재하지 않고 조회 시 직접 가져와 병합 (pull on read)
+// - 적재된 항목은 적재 후 RETENTION_DAYS가 지나면 삭제되므로, 일반 작성자의 오래된 글은 팔로잉 피드(최신순)에서 빠짐
+//   (pull 대상 작성자의 글은 기간 제한 없이 TIMELINE_MAX_SIZE 안에서 조회, 오래된 글은 작성자/게시판 목록에서 조회)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class TimelineService {
+
+    // 팔로워 수가 이 값을 넘으면 pull 대상 작성자로 분류
+    public static final long FAN_OUT_FOLLOWER_LIMIT = 1000;
+    // 타임라인 최대 길이 (이보다 깊은 페이지는 제공하지 않음)
+    public static final int TIMELINE_MAX_SIZE = 800;
+    // 새로 팔로우했을 때 채워넣는 최근 게시글 수
+    private static final int BACKFILL_SIZE = 50;
+    // 타임라인 항목 보관 기간 (적재 시각 기준, 지나면 팔로잉 피드에서 빠짐)
+    private static final int RETENTION_DAYS = 30;
+    // 기존 팔로우 관계로 타임라인을 채울 때 한 트랜잭션에서 처리하는 팔로우 수
+    private static final int SEED_BATCH_SIZE = 500;
+
+    private final TimelineEntryRepository timelineEntryRepository;
+    private final FollowRepository followRepository;
+    private final PostRepository postRepository;
+    private final UserRepository userRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final Set<Long> pullAuthorIds = ConcurrentHashMap.newKeySet();
+
+    // pull 대상 작성자 목록 재구성 (서버 시작 시, 매일 새벽 4시 10분)
+    // 팔로워가 기준 아래로 줄어 fan-out으로 돌아온 작성자는 pull 기간 동안 적재되지 않은 최근 글을 팔로워 타임라인에 채워넣음
+    @Scheduled(cron = "0 10 4 * * *")
+    public void reloadPullAuthors() {
+        Set<Long> authorIds = new HashSet<>(followRepository.findFollowingIdsWithFollowerCountOver(FAN_OUT_FOLLOWER_LIMIT));
+        Set<Long> demotedIds = new HashSet<>(pullAuthorIds);
+        demotedIds.removeAll(authorIds);
+
+        // 전부 지웠다가 다시 채우면 그 사이 pull 대상 작성자가 fan-out되므로 추가 후 제거
+        pullAuthorIds.addAll(authorIds);
+        pullAuthorIds.retainAll(authorIds);
+
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        for (Long authorId : demotedIds) {
+            transactionTemplate.executeWithoutResult(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                for (Long followerId : followRepository.findFollowerIds(authorId)) {
+                    timelineEntryRepository.backfill(followerId, authorId, BACKFILL_SIZE, now);
+                }
+            });
+        }
+        log.info("타임라인 pull 대상 작성자 {}명 로드, fan-out 복귀 {}명", authorIds.size(), demotedIds.size());
+    }
+
+    // 타임라인 도입 이전의 팔로우 관계로 타임라인 채우기 (팔로우 id 순 배치, 이미 있는 항목은 건너뜀)
+    public int seedFromFollows() {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        int total = 0;
+        long lastId = 0L;
+        while (true) {
+            final long afterId = lastId;
+            List<FollowPairDto> pairs = followRepository.findPairsAfterId(afterId, PageRequest.of(0, SEED_BATCH_SIZE));
+            if (pairs.isEmpty()) {
+                return total;
+            }
+            Integer inserted = transactionTemplate.execute(status -> {
+                LocalDateTime now = LocalDateTime.now();
+                int count = 0;
+                for (FollowPairDto pair : pairs) {
+                    if (pair.followerId().equals(pair.followingId()) || pullAuthorIds.contains(pair.followingId())) {
+                        continue;
+                    }
+                    count += timelineEntryRepository.backfill(pair.followerId(), pair.followingId(), BACKFILL_SIZE, now);
+                }
+                return count;
+            });
+            total += inserted == null ? 0 : inserted;
+            lastId = pairs.get(pairs.size() - 1).id();
+        }
+    }
+
+    public boolean isEmpty() {
+        return timelineEntryRepository.count() == 0;
+    }
+
+    // 게시글을 작성자의 팔로워 타임라인에 적재 (게시글 커밋 이후 호출)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public void fanOut(Post post) {
+        Long authorId = post.getUser().getId();
+        if (isPullAuthor(authorId)) {
+            return;
+        }
+
+        timelineEntryRepository.fanOut(post.getId(), authorId, LocalDateTime.now());
+    }
+
+    // 팔로우 시 해당 작성자의 최근 게시글을 타임라인에 채워넣음
+    @Transactional
+    public void onFollow(Long followerId, Long followingId) {
+        if (isPullAuthor(followingId)) {
+            return;
+        }
+
+        timelineEntryRepository.backfill(followerId, followingId, BACKFILL_SIZE, LocalDateTime.now());
+    }
+
+    // 언팔로우 시 해당 작성자의 게시글을 타임라인에서 제거
+    @Transactional
+    public void onUnfollow(Long followerId, Long followingId) {
+        timelineEntryRepository.deleteByOwnerIdAndAuthorId(followerId, followingId);
+    }
+
+    // 게시글 삭제 시 모든 타임라인에서 제거
+    @Transactional
+    public void removePost(Long postId) {
+        timelineEntryRepository.deleteByPostId(postId);
+    }
+
+    // 타임라인 페이지 조회 (최신순 게시글 ID)
+    @Transactional(readOnly = true)
+    public Page<Long> getTimeline(Long userId, int page, int size) {
+        Pageable pageable = PageRequest.of(page, size);
+        int window = Math.min((page + 1) * size, TIMELINE_MAX_SIZE);
+
+        // 1. 미리 적재된 타임라인
+        List<Long> inboxPostIds = timelineEntryRepository.findPostIdsByOwnerId(userId, PageRequest.of(0, window));
+        long total = timelineEntryRepository.countByOwnerId(userId);
+
+        // 2. 팔로우 중인 pull 대상 작성자의 게시글
+        List<Long> pulledPostIds = List.of();
+        if (!pullAuthorIds.isEmpty()) {
+            List<Long> followedPullAuthorIds = followRepository.findFollowingIdsIn(userId, pullAuthorIds);
+            if (!followedPullAuthorIds.isEmpty()) {
+                pulledPostIds = postRepository.findIdsByUserIdIn(followedPullAuthorIds, PageRequest.of(0, window));
+                // pull 대상이 되기 전에 적재된 항목은 양쪽에 모두 포함되므로 한 번만 셈
+                total += postRepository.countByUserIdIn(followedPullAuthorIds)
+                        - timelineEntryRepository.countByOwnerIdAndAuthorIdIn(userId, followedPullAuthorIds);
+            }
+        }
+
+        // 3. 두 목록을 최신순으로 병합 후 해당 페이지만 잘라냄
+        List<Long> merged = Stream.concat(inboxPostIds.stream(), pulledPostIds.stream())
+                .distinct()
+                .sorted(Comparator.reverseOrder())
+                .limit(window)
+                .toList();
+
+        int from = page * size;
+        if (from >= merged.size()) {
+            return new PageImpl<>(List.of(), pageable, Math.min(total, TIMELINE_MAX_SIZE));
+        }
+        List<Long> pagePostIds = merged.subList(from, Math.min(from + size, merged.size()));
+
+        return new PageImpl<>(pagePostIds, pageable, Math.min(total, TIMELINE_MAX_SIZE));
+    }
+
+    // 보관 기간이 지난 타임라인 항목 정리 (매일 새벽 4시)
+    @Scheduled(cron = "0 0 4 * * *")
+    @Transactional
+    public void purgeExpiredEntries() {
+        int deleted = timelineEntryRepository.deleteByCreatedAtBefore(LocalDateTime.now().minusDays(RETENTION_DAYS));
+        log.info("만료된 타임라인 항목 {}건 삭제", deleted);
+    }
+
+    // 팔로워가 많은 작성자인지 확인 (기준을 넘는 순간 pull 대상으로 전환)
+    private boolean isPullAuthor(Long authorId) {
+        if (pullAuthorIds.contains(authorId)) {
+            return true;
+        }
+        if (userRepository.findFollowerCountById(authorId).orElse(0) > FAN_OUT_FOLLOWER_LIMIT) {
+            pullAuthorIds.add(authorId);
+            return true;
+        }
+        return false;
+    }
+}
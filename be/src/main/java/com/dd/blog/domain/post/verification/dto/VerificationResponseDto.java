@@ -1,5 +1,6 @@
 package com.dd.blog.domain.post.verification.dto;
 
+import com.dd.blog.domain.post.image.dto.ImageVariantUrls;
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.verification.entity.Verification;
 import com.dd.blog.domain.post.verification.entity.VerificationStatus;
@@ -8,6 +9,7 @@ import lombok.Builder;
 import lombok.Getter;
 
 import java.time.LocalDateTime;
+import java.util.Map;
 
 @Getter
 @Builder
@@ -21,10 +23,17 @@ public class VerificationResponseDto {
     // 관리자 목록 화면
     private String userNickname;
     private String verificationImageUrl;
+    // 관리자 검토 화면용 작은 이미지 (변환 전이면 원본 URL)
+    private String verificationThumbnailUrl;
+    private String verificationMediumUrl;
     private LocalDateTime createdAt;
 
 
     public static VerificationResponseDto fromEntity(Verification verification) {
+        return fromEntity(verification, Map.of());
+    }
+
+    public static VerificationResponseDto fromEntity(Verification verification, Map<String, ImageVariantUrls> variants) {
         if(verification == null)
             return null;
 
@@ -35,6 +44,7 @@ public class VerificationResponseDto {
         String imageUrl = (post != null) ? post.getVerificationImageUrl() : null;
         Long postId = (post != null) ? post.getId() : null;
         Long userId = (user != null) ? user.getId() : null;
+        ImageVariantUrls variant = (imageUrl != null) ? variants.get(imageUrl) : null;
 
         return VerificationResponseDto.builder()
                 .verificationId(verification.getId())
@@ -44,6 +54,8 @@ public class VerificationResponseDto {
                 .detoxTime(verification.getDetoxTime())
                 .userNickname(nickname)
                 .verificationImageUrl(imageUrl)
+                .verificationThumbnailUrl(variant != null ? variant.thumbnailUrl() : imageUrl)
+                .verificationMediumUrl(variant != null ? variant.mediumUrl() : imageUrl)
                 .createdAt(verification.getCreatedAt())
                 .build();
     }
@@ -8,6 +8,7 @@ import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -33,4 +34,7 @@ public interface VerificationRepository extends JpaRepository<Verification, Long
 
     // postId로 Verification 조회
     Optional<Verification> findByPostId(Long postId);
+
+    // 여러 postId의 Verification을 한 번에 조회 (목록 조회 시 N+1 방지)
+    List<Verification> findByPostIdIn(Collection<Long> postIds);
 }
@@ -2,6 +2,7 @@ package com.dd.blog.domain.post.verification.service;
 
 import com.dd.blog.domain.post.post.entity.Post;
 import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostDetailCacheService;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import com.dd.blog.domain.post.verification.dto.*;
@@ -20,7 +21,10 @@ import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.temporal.TemporalAdjusters;
 import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
 @Service
@@ -29,6 +33,7 @@ public class VerificationService {
     private final VerificationRepository verificationRepository;
     private final UserRepository userRepository;
     private final PostRepository postRepository;
+    private final PostDetailCacheService postDetailCacheService;
 
     // 인증요청 CREATE 메서드
     @Transactional
@@ -80,6 +85,20 @@ public class VerificationService {
                 .collect(Collectors.toList());
     }
 
+    // 게시글 ID 목록에 대한 인증 상태를 한 번의 IN 쿼리로 조회 (postId -> status)
+    @Transactional(readOnly = true)
+    public Map<Long, VerificationStatus> getStatusesByPostIds(Collection<Long> postIds) {
+        Map<Long, VerificationStatus> statuses = new HashMap<>();
+        if (postIds == null || postIds.isEmpty()) {
+            return statuses;
+        }
+
+        for (Verification verification : verificationRepository.findByPostIdIn(postIds)) {
+            statuses.put(verification.getPost().getId(), verification.getStatus());
+        }
+        return statuses;
+    }
+
     // 인증요청 UPDATE 메서드
     @Transactional
     public VerificationResponseDto updateVerification(Long id, VerificationRequestDto requestDto) {
@@ -89,6 +108,7 @@ public class VerificationService {
 
             verification.setDetoxTime(requestDto.getDetoxTime());
             verification.setStatus(requestDto.getStatus());
+            postDetailCacheService.evict(verification.getPost().getId());
 
             return toDto(verification);
         } catch (IllegalArgumentException e) {
@@ -105,6 +125,7 @@ public class VerificationService {
             Verification verification = verificationRepository.findById(id)
                     .orElseThrow(() -> new IllegalArgumentException("인증 요청을 찾을 수 없습니다."));
             verificationRepository.delete(verification);
+            postDetailCacheService.evict(verification.getPost().getId());
         } catch (IllegalArgumentException e) {
             throw new ResponseStatusException(HttpStatus.BAD_REQUEST, e.getMessage());
         } catch (Exception e) {
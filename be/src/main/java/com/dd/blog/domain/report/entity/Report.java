@@ -13,6 +13,19 @@ import lombok.experimental.SuperBuilder;
 @AllArgsConstructor
 @SuperBuilder
 @ToString(exclude = {"reportedPost", "reporter", "reportedPostAuthor"})
+// 관리자 신고 목록용 fetch plan (신고자, 작성자, 게시글과 게시글 카테고리를 한 번에 조회)
+@NamedEntityGraph(
+        name = "Report.withPostAndUsers",
+        attributeNodes = {
+                @NamedAttributeNode("reporter"),
+                @NamedAttributeNode("reportedPostAuthor"),
+                @NamedAttributeNode(value = "reportedPost", subgraph = "reportedPost")
+        },
+        subgraphs = @NamedSubgraph(
+                name = "reportedPost",
+                attributeNodes = @NamedAttributeNode("category")
+        )
+)
 @Table(name = "report")
 public class Report extends BaseEntity {
 
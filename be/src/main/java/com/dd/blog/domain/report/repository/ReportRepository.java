@@ -4,6 +4,7 @@ import com.dd.blog.domain.report.entity.Report;
 import com.dd.blog.domain.report.entity.ReportStatus;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
@@ -14,6 +15,7 @@ import java.util.List;
 
 public interface ReportRepository extends JpaRepository<Report, Long> {
 
+    @EntityGraph("Report.withPostAndUsers")
     Page<Report> findByStatusOrderByCreatedAtAsc(@Param("status") ReportStatus status, Pageable pageable);
 
 
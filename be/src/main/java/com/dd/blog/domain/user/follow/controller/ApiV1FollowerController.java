@@ -2,9 +2,11 @@ package com.dd.blog.domain.user.follow.controller;
 
 import com.dd.blog.domain.user.follow.dto.FollowRequestDto;
 import com.dd.blog.domain.user.follow.dto.FollowResponseDto;
+import com.dd.blog.domain.user.follow.dto.FollowSuggestionDto;
 import com.dd.blog.domain.user.follow.dto.FollowUserDto;
 import com.dd.blog.domain.user.follow.entity.Follow;
 import com.dd.blog.domain.user.follow.service.FollowService;
+import com.dd.blog.global.dto.CursorResponseDto;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.validation.Valid;
@@ -50,6 +52,22 @@ public class ApiV1FollowerController {
         return ResponseEntity.ok(isFollowing);
     }
 
+    @GetMapping("/check/mutual")
+    @Operation(summary = "맞팔로우 여부 확인", description = "두 사용자가 서로 팔로우하고 있는지 확인합니다.")
+    public ResponseEntity<Boolean> checkMutualFollow(
+            @RequestParam Long userId,
+            @RequestParam Long otherId) {
+        return ResponseEntity.ok(followService.isMutualFollow(userId, otherId));
+    }
+
+    @GetMapping("/common-followers/number")
+    @Operation(summary = "공통 팔로워 수 조회", description = "두 사용자를 모두 팔로우하는 사람들의 수를 조회합니다.")
+    public ResponseEntity<Integer> getCommonFollowerNumber(
+            @RequestParam Long userId,
+            @RequestParam Long otherId) {
+        return ResponseEntity.ok(followService.countCommonFollowers(userId, otherId));
+    }
+
     @GetMapping("/{userId}/followers")
     @Operation(summary = "팔로워 조회", description = "나를 팔로우 하는 사람들을 조회합니다.")
     public ResponseEntity<List<FollowUserDto>> getFollowers(@PathVariable Long userId){
@@ -68,17 +86,43 @@ public class ApiV1FollowerController {
         return ResponseEntity.ok(followings);
     }
 
+    @GetMapping("/{userId}/followers/cursor")
+    @Operation(summary = "팔로워 커서 조회", description = "나를 팔로우 하는 사람들을 최근 팔로우순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    public ResponseEntity<CursorResponseDto<FollowUserDto>> getFollowersByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(followService.getFollowersCursor(userId, cursor, size));
+    }
+
+    @GetMapping("/{userId}/followings/cursor")
+    @Operation(summary = "팔로잉 커서 조회", description = "내가 팔로우 하는 사람들을 최근 팔로우순으로 커서 기반 조회합니다. 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.")
+    public ResponseEntity<CursorResponseDto<FollowUserDto>> getFollowingsByCursor(
+            @PathVariable Long userId,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        return ResponseEntity.ok(followService.getFollowingsCursor(userId, cursor, size));
+    }
+
+    @GetMapping("/{userId}/suggestions")
+    @Operation(summary = "알 수도 있는 사람", description = "내가 팔로우하는 사람들이 많이 팔로우하는 사용자를 추천합니다.")
+    public ResponseEntity<List<FollowSuggestionDto>> getSuggestions(
+            @PathVariable Long userId,
+            @RequestParam(defaultValue = "10") int size){
+        return ResponseEntity.ok(followService.getSuggestions(userId, size));
+    }
+
     @GetMapping("/{userId}/followers/number")
     @Operation(summary = "팔로워 수 조회", description = "나를 팔로우 하는 사람들의 수를 조회합니다.")
     public ResponseEntity<Integer> getFollowerNumber(@PathVariable Long userId){
-        int followerNum = followService.getFollowers(userId).size();
+        int followerNum = followService.getFollowerCount(userId);
         return ResponseEntity.ok(followerNum);
     }
 
     @GetMapping("/{userId}/followings/number")
-    @Operation(summary = "팔로잉 수 조회", description = "나를 팔로우 하는 사람들의 수를 조회합니다.")
+    @Operation(summary = "팔로잉 수 조회", description = "내가 팔로우 하는 사람들의 수를 조회합니다.")
     public ResponseEntity<Integer> getFollowingNumber(@PathVariable Long userId){
-        int followingNum = followService.getFollowings(userId).size();
+        int followingNum = followService.getFollowingCount(userId);
         return ResponseEntity.ok(followingNum);
     }
 }
@@ -0,0 +1,5 @@
+package com.dd.blog.domain.user.follow.dto;
+
+// 팔로우 목록 커서 조회용 projection (followId는 커서로 사용)
+public record FollowEdgeDto(Long followId, Long userId, String nickname) {
+}
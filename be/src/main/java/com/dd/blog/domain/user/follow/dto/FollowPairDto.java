@@ -0,0 +1,5 @@
+package com.dd.blog.domain.user.follow.dto;
+
+// 팔로우 그래프 인덱스 구성용 projection
+public record FollowPairDto(Long id, Long followerId, Long followingId) {
+}
@@ -0,0 +1,16 @@
+package com.dd.blog.domain.user.follow.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+@Getter
+@NoArgsConstructor
+@AllArgsConstructor
+@Builder
+public class FollowSuggestionDto {
+    private Long id;
+    private String nickname;
+    private int mutualCount; // 내가 팔로우하는 사람 중 이 사용자를 팔로우하는 수
+}
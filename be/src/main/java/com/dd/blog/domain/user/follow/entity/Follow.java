@@ -15,7 +15,18 @@ import lombok.experimental.SuperBuilder;
 @NoArgsConstructor
 @SuperBuilder
 @ToString
-@Table(name = "follow")
+@Table(
+        name = "follow",
+        uniqueConstraints = {
+                @UniqueConstraint(name = "follow_uk", columnNames = {"follower_id", "following_id"})
+        },
+        indexes = {
+                // 팔로워 목록/수 조회용
+                @Index(name = "idx_follow_following_id", columnList = "following_id"),
+                // 팔로잉 목록 커서 조회용 (follower_id, id)
+                @Index(name = "idx_follow_follower_id", columnList = "follower_id")
+        }
+)
 public class Follow extends BaseEntity {
     @ManyToOne(fetch = FetchType.LAZY)
     @JoinColumn(name = "follower_id")
@@ -1,10 +1,19 @@
 package com.dd.blog.domain.user.follow.repository;
 
+import com.dd.blog.domain.user.follow.dto.FollowEdgeDto;
+import com.dd.blog.domain.user.follow.dto.FollowPairDto;
 import com.dd.blog.domain.user.follow.entity.Follow;
 import com.dd.blog.domain.user.user.entity.User;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 특정 사용자가 팔로우하는 사용자 목록
@@ -13,6 +22,58 @@ public interface FollowRepository extends JpaRepository<Follow, Long> {
     // 특정 사용자를 팔로우하는 사용자 목록
     List<Follow> findByFollowing(User following);
 
-    // 특정 사용자의 다른 사용자를 팔로우 여부
-    boolean existsByFollowerAndFollowing(User follower, User following);
+    // 특정 사용자의 다른 사용자를 팔로우 여부 (follow_uk 인덱스로 바로 확인)
+    boolean existsByFollowerIdAndFollowingId(Long followerId, Long followingId);
+
+    // 팔로우 관계 조회 (응답용 닉네임 함께 조회)
+    @EntityGraph(attributePaths = {"follower", "following"})
+    Optional<Follow> findByFollowerIdAndFollowingId(Long followerId, Long followingId);
+
+    // 이미 팔로우 중이면 follow_uk에 걸려 무시됨 (추가되면 1, 아니면 0)
+    @Modifying
+    @Query(value = "INSERT IGNORE INTO follow (follower_id, following_id, created_at, updated_at) " +
+            "VALUES (:followerId, :followingId, CURRENT_TIMESTAMP, CURRENT_TIMESTAMP)", nativeQuery = true)
+    int insertIgnore(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Modifying
+    @Query("DELETE FROM Follow f WHERE f.follower.id = :followerId AND f.following.id = :followingId")
+    int deleteByFollowerIdAndFollowingId(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // follow_uk 추가 전 쌓인 중복 팔로우 정리 (가장 먼저 생긴 행만 남김)
+    @Modifying
+    @Query(value = "DELETE FROM follow WHERE id NOT IN (" +
+            "SELECT keep_id FROM (SELECT MIN(id) AS keep_id FROM follow GROUP BY follower_id, following_id) k)",
+            nativeQuery = true)
+    int deleteDuplicates();
+
+    // 팔로워 목록 커서 조회 (팔로우 ID 내림차순, 자기 자신 제외)
+    @Query("SELECT new com.dd.blog.domain.user.follow.dto.FollowEdgeDto(f.id, u.id, u.nickname) " +
+            "FROM Follow f JOIN f.follower u " +
+            "WHERE f.following.id = :userId AND u.id <> :userId AND f.id < :cursorId " +
+            "ORDER BY f.id DESC")
+    List<FollowEdgeDto> findFollowerPage(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 팔로잉 목록 커서 조회
+    @Query("SELECT new com.dd.blog.domain.user.follow.dto.FollowEdgeDto(f.id, u.id, u.nickname) " +
+            "FROM Follow f JOIN f.following u " +
+            "WHERE f.follower.id = :userId AND u.id <> :userId AND f.id < :cursorId " +
+            "ORDER BY f.id DESC")
+    List<FollowEdgeDto> findFollowingPage(@Param("userId") Long userId, @Param("cursorId") Long cursorId, Pageable pageable);
+
+    // 팔로우 그래프 인덱스 구성용 (ID 순으로 나눠서 조회)
+    @Query("SELECT new com.dd.blog.domain.user.follow.dto.FollowPairDto(f.id, f.follower.id, f.following.id) " +
+            "FROM Follow f WHERE f.id > :lastId ORDER BY f.id ASC")
+    List<FollowPairDto> findPairsAfterId(@Param("lastId") Long lastId, Pageable pageable);
+
+    // 사용자를 팔로우하는 사용자 ID 목록 (자기 자신 제외)
+    @Query("SELECT f.follower.id FROM Follow f WHERE f.following.id = :userId AND f.follower.id <> :userId")
+    List<Long> findFollowerIds(@Param("userId") Long userId);
+
+    // 팔로워 수가 기준을 넘는 사용자 ID 목록
+    @Query("SELECT f.following.id FROM Follow f GROUP BY f.following.id HAVING COUNT(f) > :limit")
+    List<Long> findFollowingIdsWithFollowerCountOver(@Param("limit") long limit);
+
+    // 주어진 사용자들 중 followerId가 팔로우하는 사용자 ID 목록
+    @Query("SELECT f.following.id FROM Follow f WHERE f.follower.id = :followerId AND f.following.id IN :followingIds")
+    List<Long> findFollowingIdsIn(@Param("followerId") Long followerId, @Param("followingIds") Collection<Long> followingIds);
 }
@@ -0,0 +1,240 @@
+package com.dd.blog.domain.user.follow.service;
+
+import com.dd.blog.domain.user.follow.dto.FollowPairDto;
+import com.dd.blog.domain.user.follow.repository.FollowRepository;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.*;
+import java.util.concurrent.ConcurrentHashMap;
+
+// 팔로우 그래프 메모리 인덱스
+// 사용자별 팔로잉/팔로워 ID를 정렬된 long 배열로 보관 → 팔로우 여부는 이진 탐색, 교집합은 병합으로 계산
+// 배열은 수정하지 않고 새 배열로 교체하므로 조회 시 락 없음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class FollowGraphService {
+
+    private static final long[] EMPTY = new long[0];
+    private static final int REBUILD_BATCH_SIZE = 5000;
+    // 추천 계산 시 확인하는 최대 간선 수 (팔로잉이 많은 사용자도 응답 시간 제한)
+    private static final int SUGGESTION_SCAN_LIMIT = 100_000;
+
+    private final FollowRepository followRepository;
+
+    // 재구성 시 통째로 교체
+    private volatile Map<Long, long[]> followings = new ConcurrentHashMap<>();
+    private volatile Map<Long, long[]> followers = new ConcurrentHashMap<>();
+
+    // 재구성 중 들어온 팔로우/언팔로우 (교체 직전 새 인덱스에 다시 반영, 재구성 중이 아니면 null)
+    private final Object changeLock = new Object();
+    private List<EdgeChange> changesDuringRebuild;
+
+    // 추천 결과 (overlap: 나의 팔로잉 중 해당 사용자를 팔로우하는 수)
+    public record Suggestion(long userId, int overlap) {
+    }
+
+    private record EdgeChange(long followerId, long followingId, boolean follow) {
+    }
+
+    // 전체 팔로우 관계로 인덱스 재구성 (서버 시작 시)
+    // 재구성 중 커밋된 팔로우/언팔로우는 기존 인덱스에 반영하면서 따로 모아두었다가 교체 직전 새 인덱스에 다시 반영
+    @Transactional(readOnly = true)
+    public void rebuild() {
+        synchronized (changeLock) {
+            changesDuringRebuild = new ArrayList<>();
+        }
+        try {
+            rebuildAndSwap();
+        } finally {
+            synchronized (changeLock) {
+                changesDuringRebuild = null;
+            }
+        }
+    }
+
+    private void rebuildAndSwap() {
+        Map<Long, LongBuffer> followingBuffers = new HashMap<>();
+        Map<Long, LongBuffer> followerBuffers = new HashMap<>();
+
+        long lastId = 0L;
+        int edges = 0;
+        while (true) {
+            List<FollowPairDto> batch = followRepository.findPairsAfterId(lastId, PageRequest.of(0, REBUILD_BATCH_SIZE));
+            if (batch.isEmpty()) break;
+
+            for (FollowPairDto pair : batch) {
+                if (!pair.followerId().equals(pair.followingId())) { // 자기 자신 팔로우 제외
+                    followingBuffers.computeIfAbsent(pair.followerId(), id -> new LongBuffer()).add(pair.followingId());
+                    followerBuffers.computeIfAbsent(pair.followingId(), id -> new LongBuffer()).add(pair.followerId());
+                    edges++;
+                }
+            }
+            lastId = batch.get(batch.size() - 1).id();
+        }
+
+        Map<Long, long[]> newFollowings = new ConcurrentHashMap<>();
+        Map<Long, long[]> newFollowers = new ConcurrentHashMap<>();
+        followingBuffers.forEach((userId, buffer) -> newFollowings.put(userId, buffer.toSortedArray()));
+        followerBuffers.forEach((userId, buffer) -> newFollowers.put(userId, buffer.toSortedArray()));
+
+        synchronized (changeLock) {
+            // 같은 변경을 두 번 반영해도 결과가 같음 (이미 있으면 추가 안 함, 없으면 삭제 안 함)
+            changesDuringRebuild.forEach(change -> applyTo(newFollowings, newFollowers, change));
+            followings = newFollowings;
+            followers = newFollowers;
+        }
+        log.info("팔로우 그래프 인덱스 구성: 사용자 {}명, 관계 {}건", newFollowings.size(), edges);
+    }
+
+    // 팔로우/언팔로우 반영 (트랜잭션 안이면 커밋 후)
+    public void onFollow(Long followerId, Long followingId) {
+        if (followerId.equals(followingId)) return;
+        afterCommit(() -> apply(new EdgeChange(followerId, followingId, true)));
+    }
+
+    public void onUnfollow(Long followerId, Long followingId) {
+        if (followerId.equals(followingId)) return;
+        afterCommit(() -> apply(new EdgeChange(followerId, followingId, false)));
+    }
+
+    private void apply(EdgeChange change) {
+        synchronized (changeLock) {
+            applyTo(followings, followers, change);
+            if (changesDuringRebuild != null) changesDuringRebuild.add(change);
+        }
+    }
+
+    private static void applyTo(Map<Long, long[]> followings, Map<Long, long[]> followers, EdgeChange change) {
+        if (change.follow()) {
+            followings.compute(change.followerId(), (id, ids) -> insert(ids, change.followingId()));
+            followers.compute(change.followingId(), (id, ids) -> insert(ids, change.followerId()));
+        } else {
+            followings.computeIfPresent(change.followerId(), (id, ids) -> remove(ids, change.followingId()));
+            followers.computeIfPresent(change.followingId(), (id, ids) -> remove(ids, change.followerId()));
+        }
+    }
+
+    public boolean isFollowing(long followerId, long followingId) {
+        return Arrays.binarySearch(followings.getOrDefault(followerId, EMPTY), followingId) >= 0;
+    }
+
+    // 서로 팔로우 여부
+    public boolean isMutual(long userId, long otherId) {
+        return isFollowing(userId, otherId) && isFollowing(otherId, userId);
+    }
+
+    // 두 사용자를 모두 팔로우하는 사용자 수
+    public int countCommonFollowers(long userId, long otherId) {
+        return countIntersection(followers.getOrDefault(userId, EMPTY), followers.getOrDefault(otherId, EMPTY));
+    }
+
+    // 친구의 친구 추천 (내 팔로잉이 많이 팔로우하는 순, 같으면 팔로워 많은 순)
+    public List<Suggestion> suggest(long userId, int limit) {
+        Map<Long, long[]> followings = this.followings;
+        Map<Long, long[]> followers = this.followers;
+        long[] mine = followings.getOrDefault(userId, EMPTY);
+        Map<Long, Integer> overlaps = new HashMap<>();
+
+        int scanned = 0;
+        for (long friendId : mine) {
+            for (long candidateId : followings.getOrDefault(friendId, EMPTY)) {
+                if (candidateId != userId && Arrays.binarySearch(mine, candidateId) < 0) {
+                    overlaps.merge(candidateId, 1, Integer::sum);
+                }
+            }
+            scanned += followings.getOrDefault(friendId, EMPTY).length;
+            if (scanned >= SUGGESTION_SCAN_LIMIT) break;
+        }
+
+        Comparator<Suggestion> order = Comparator.comparingInt(Suggestion::overlap)
+                .thenComparingInt(s -> followers.getOrDefault(s.userId(), EMPTY).length)
+                .thenComparingLong(Suggestion::userId);
+
+        // 상위 limit개만 유지
+        PriorityQueue<Suggestion> top = new PriorityQueue<>(order);
+        overlaps.forEach((candidateId, overlap) -> {
+            top.offer(new Suggestion(candidateId, overlap));
+            if (top.size() > limit) top.poll();
+        });
+
+        List<Suggestion> result = new ArrayList<>(top);
+        result.sort(order.reversed());
+        return result;
+    }
+
+    private static int countIntersection(long[] a, long[] b) {
+        int i = 0, j = 0, count = 0;
+        while (i < a.length && j < b.length) {
+            if (a[i] < b[j]) i++;
+            else if (a[i] > b[j]) j++;
+            else {
+                count++;
+                i++;
+                j++;
+            }
+        }
+        return count;
+    }
+
+    private static long[] insert(long[] ids, long id) {
+        if (ids == null) return new long[]{id};
+        int index = Arrays.binarySearch(ids, id);
+        if (index >= 0) return ids;
+
+        int position = -index - 1;
+        long[] updated = new long[ids.length + 1];
+        System.arraycopy(ids, 0, updated, 0, position);
+        updated[position] = id;
+        System.arraycopy(ids, position, updated, position + 1, ids.length - position);
+        return updated;
+    }
+
+    // 비게 되면 null을 반환해 맵에서 제거
+    private static long[] remove(long[] ids, long id) {
+        int index = Arrays.binarySearch(ids, id);
+        if (index < 0) return ids;
+        if (ids.length == 1) return null;
+
+        long[] updated = new long[ids.length - 1];
+        System.arraycopy(ids, 0, updated, 0, index);
+        System.arraycopy(ids, index + 1, updated, index, ids.length - index - 1);
+        return updated;
+    }
+
+    private static void afterCommit(Runnable task) {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    task.run();
+                }
+            });
+        } else {
+            task.run();
+        }
+    }
+
+    // 재구성용 가변 long 배열
+    private static class LongBuffer {
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long value) {
+            if (size == values.length) values = Arrays.copyOf(values, size * 2);
+            values[size++] = value;
+        }
+
+        long[] toSortedArray() {
+            long[] result = Arrays.copyOf(values, size);
+            Arrays.sort(result);
+            return result;
+        }
+    }
+}
@@ -1,85 +1,85 @@
 package com.dd.blog.domain.user.follow.service;
 
+import com.dd.blog.domain.post.timeline.service.TimelineService;
+import com.dd.blog.domain.user.follow.dto.FollowEdgeDto;
 import com.dd.blog.domain.user.follow.dto.FollowResponseDto;
+import com.dd.blog.domain.user.follow.dto.FollowSuggestionDto;
+import com.dd.blog.domain.user.follow.dto.FollowUserDto;
 import com.dd.blog.domain.user.follow.entity.Follow;
 import com.dd.blog.domain.user.follow.repository.FollowRepository;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.global.dto.CursorResponseDto;
+import com.dd.blog.global.utils.CursorUtil;
 import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 
+@Slf4j
 @Service
 @RequiredArgsConstructor
 public class FollowService {
     private final UserRepository userRepository;
     private final FollowRepository followRepository;
+    private final TimelineService timelineService;
+    private final FollowGraphService followGraphService;
 
+    // 추천 최대 개수
+    private static final int MAX_SUGGESTION_SIZE = 50;
+
+    // 팔로우 (이미 팔로우 중이면 기존 관계를 그대로 반환)
+    // 팔로우 목록을 읽지 않고 follow_uk 기준 INSERT IGNORE로 처리하므로 팔로우 수와 무관
     @Transactional
     public FollowResponseDto follow(Long followerId, Long followingId){
-        //팔로우기능
-        User follower = userRepository.findById(followerId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-        User following = userRepository.findById(followingId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-
-        // follower가 팔로우한 사람들 리스트 가져오기
-        List<Follow> followList = followRepository.findByFollower(follower);
-
-        // 이미 팔로우 중인지 확인
-        for (Follow follow : followList) {
-            if (follow.getFollowing().getId().equals(following.getId())) {
-                throw new IllegalStateException("이미 팔로우 중입니다.");
-                // 프론트에서 이미 팔로우 한 사람은 팔로우버튼을 다르게 설정
+        if (followRepository.insertIgnore(followerId, followingId) == 1) {
+            if (!followerId.equals(followingId)) {
+                userRepository.increaseFollowCounts(followerId, followingId);
             }
+            timelineService.onFollow(followerId, followingId);
+            followGraphService.onFollow(followerId, followingId);
         }
 
-        Follow newFollow = Follow.builder()
-                .follower(follower)
-                .following(following)
-                .build();
-
-        Follow savedFollow = followRepository.save(newFollow);
-        return FollowResponseDto.fromEntity(savedFollow);
+        Follow follow = followRepository.findByFollowerIdAndFollowingId(followerId, followingId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
+        return FollowResponseDto.fromEntity(follow);
     }
 
 
+    // 언팔로우 (팔로우 관계가 없으면 아무것도 하지 않음)
     @Transactional
     public void unfollow(Long userId, Long followingId){
-        User follower = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-        User following = userRepository.findById(followingId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-
-        // 내가 팔로우한 사람들 리스트 가져오기
-        List<Follow> followList = followRepository.findByFollower(follower);
-
-        // 이미 팔로우 중인지 확인
-        Follow target = null;
-        for (Follow follow : followList) {
-            if (follow.getFollowing().getId().equals(following.getId())) {
-                target = follow;
-                break;
+        // 중복 정리 전 데이터가 남아 있으면 2건 이상 삭제될 수 있음
+        if (followRepository.deleteByFollowerIdAndFollowingId(userId, followingId) >= 1) {
+            if (!userId.equals(followingId)) {
+                userRepository.decreaseFollowCounts(userId, followingId);
             }
+            timelineService.onUnfollow(userId, followingId);
+            followGraphService.onUnfollow(userId, followingId);
         }
-        if (target == null) {
-            throw new IllegalArgumentException("팔로우 관계가 존재하지 않습니다.");
-        }
-        followRepository.delete(target);
     }
 
-    @Transactional
+    @Transactional(readOnly = true)
     public boolean isFollowing(Long followerId, Long followingId){
         //특정 사용자가 다른 사용자를 팔로우하고 있는지 확인
-        User follower = userRepository.findById(followerId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
-        User following = userRepository.findById(followingId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
+        return followRepository.existsByFollowerIdAndFollowingId(followerId, followingId);
+    }
 
-        return followRepository.existsByFollowerAndFollowing(follower, following);
+
+    // 서로 팔로우 여부 (팔로우 그래프 인덱스 조회)
+    public boolean isMutualFollow(Long userId, Long otherId){
+        return followGraphService.isMutual(userId, otherId);
+    }
+
+    // 두 사용자를 모두 팔로우하는 사용자 수 (팔로우 그래프 인덱스 조회)
+    public int countCommonFollowers(Long userId, Long otherId){
+        return followGraphService.countCommonFollowers(userId, otherId);
     }
 
 
@@ -111,4 +111,83 @@ public class FollowService {
                 .collect(Collectors.toList());
     }
 
-}
\ No newline at end of file
+    // 팔로워 수 (users.follower_count 컬럼 조회)
+    @Transactional(readOnly = true)
+    public int getFollowerCount(Long userId) {
+        return userRepository.findFollowerCountById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
+    }
+
+    // 팔로잉 수 (users.following_count 컬럼 조회)
+    @Transactional(readOnly = true)
+    public int getFollowingCount(Long userId) {
+        return userRepository.findFollowingCountById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 유저가 존재하지 않습니다."));
+    }
+
+    // 팔로워 목록 커서 기반 조회 (최근 팔로우순)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<FollowUserDto> getFollowersCursor(Long userId, String cursor, int size) {
+        size = CursorUtil.clampSize(size);
+        long cursorId = CursorUtil.decodeId(cursor);
+        List<FollowEdgeDto> edges = followRepository.findFollowerPage(userId, cursorId, PageRequest.of(0, size + 1)); // 다음 페이지 확인용 1개 더 조회
+        return toCursorResponse(edges, size);
+    }
+
+    // 팔로잉 목록 커서 기반 조회 (최근 팔로우순)
+    @Transactional(readOnly = true)
+    public CursorResponseDto<FollowUserDto> getFollowingsCursor(Long userId, String cursor, int size) {
+        size = CursorUtil.clampSize(size);
+        long cursorId = CursorUtil.decodeId(cursor);
+        List<FollowEdgeDto> edges = followRepository.findFollowingPage(userId, cursorId, PageRequest.of(0, size + 1));
+        return toCursorResponse(edges, size);
+    }
+
+    // 알 수도 있는 사람 (팔로우 그래프 인덱스 기반 친구의 친구 추천)
+    @Transactional(readOnly = true)
+    public List<FollowSuggestionDto> getSuggestions(Long userId, int size) {
+        List<FollowGraphService.Suggestion> suggestions =
+                followGraphService.suggest(userId, Math.min(Math.max(size, 1), MAX_SUGGESTION_SIZE));
+        if (suggestions.isEmpty()) {
+            return List.of();
+        }
+
+        Map<Long, String> nicknames = userRepository.findAllById(
+                        suggestions.stream().map(FollowGraphService.Suggestion::userId).collect(Collectors.toList()))
+                .stream()
+                .collect(Collectors.toMap(User::getId, User::getNickname));
+
+        return suggestions.stream()
+                .filter(s -> nicknames.containsKey(s.userId())) // 탈퇴 등으로 없어진 사용자 제외
+                .map(s -> new FollowSuggestionDto(s.userId(), nicknames.get(s.userId()), s.overlap()))
+                .collect(Collectors.toList());
+    }
+
+    // 중복 팔로우 행 정리 (follow_uk 생성 전 데이터)
+    @Transactional
+    public int removeDuplicateFollows() {
+        return followRepository.deleteDuplicates();
+    }
+
+    // 팔로워/팔로잉 수 보정 (매일 새벽 4시 40분)
+    @Scheduled(cron = "0 40 4 * * *")
+    @Transactional
+    public int reconcileFollowCounts() {
+        int updated = userRepository.reconcileFollowCounts();
+        log.info("팔로워/팔로잉 수 보정 사용자 {}명", updated);
+        return updated;
+    }
+
+    private CursorResponseDto<FollowUserDto> toCursorResponse(List<FollowEdgeDto> edges, int size) {
+        boolean hasNext = edges.size() > size;
+        List<FollowEdgeDto> content = hasNext ? edges.subList(0, size) : edges;
+        String nextCursor = hasNext ? CursorUtil.encodeId(content.get(content.size() - 1).followId()) : null;
+
+        return new CursorResponseDto<>(
+                content.stream()
+                        .map(edge -> new FollowUserDto(edge.userId(), edge.nickname()))
+                        .collect(Collectors.toList()),
+                nextCursor,
+                hasNext);
+    }
+}
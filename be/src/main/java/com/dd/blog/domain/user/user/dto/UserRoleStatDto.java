@@ -0,0 +1,11 @@
+package com.dd.blog.domain.user.user.dto;
+
+import com.dd.blog.domain.user.user.entity.UserRole;
+
+// 포인트 적립 후 자동 등업 판단용 (엔티티를 로딩하지 않고 필요한 값만 조회)
+public record UserRoleStatDto(
+        Long userId,
+        UserRole role,
+        int totalPoint
+) {
+}
@@ -39,10 +39,11 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "nickname", nullable = false, length = 50)
     private String nickname;
 
-    @Column(name = "remaining_point")
+    // 포인트 잔액은 포인트 원장(PointLedgerService)을 통해서만 변경 (엔티티 변경감지로는 갱신하지 않음)
+    @Column(name = "remaining_point", updatable = false)
     private int remainingPoint;
 
-    @Column(name = "total_point")
+    @Column(name = "total_point", updatable = false)
     private int totalPoint;
 
     @Enumerated(EnumType.STRING)
@@ -84,6 +85,16 @@ public class User extends BaseEntity implements UserDetails {
     @Column(name = "last_verification_date")
     private LocalDate lastVerificationDate;
 
+    // 팔로워/팔로잉 수 (팔로우/언팔로우 시 함께 갱신, 자기 자신 팔로우는 제외)
+    // 원자적 UPDATE로만 변경 (엔티티 변경감지로 읽어둔 값을 덮어쓰지 않도록 updatable = false)
+    @Column(name = "follower_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int followerCount = 0;
+
+    @Column(name = "following_count", nullable = false, updatable = false)
+    @Builder.Default
+    private int followingCount = 0;
+
     @Builder.Default
     @OneToMany(mappedBy = "user", cascade = CascadeType.ALL)
     private List<Post> posts = new ArrayList<>();
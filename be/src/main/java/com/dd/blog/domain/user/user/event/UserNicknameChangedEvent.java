@@ -0,0 +1,20 @@
+package com.dd.blog.domain.user.user.event;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// 사용자 닉네임 변경시 발생되는 이벤트 객체 (프로필 수정, 소셜 로그인 갱신, 회원 탈퇴 처리)
+
+@Getter
+public class UserNicknameChangedEvent extends ApplicationEvent {
+
+    private final Long userId;
+    private final String nickname;
+
+    public UserNicknameChangedEvent(Object source, Long userId, String nickname) {
+        super(source);
+        this.userId = userId;
+        this.nickname = nickname;
+    }
+
+}
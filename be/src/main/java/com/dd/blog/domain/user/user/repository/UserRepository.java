@@ -1,11 +1,16 @@
 package com.dd.blog.domain.user.user.repository;
 
+import com.dd.blog.domain.user.user.dto.UserRoleStatDto;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.entity.UserRole;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.JpaSpecificationExecutor;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -16,4 +21,52 @@ public interface UserRepository extends JpaRepository<User, Long>, JpaSpecificat
 
     long countByCreatedAtBetween(LocalDateTime start, LocalDateTime end);
     List<User> findByRole(UserRole role);
+
+    // 잔액이 충분할 때만 차감 (조건부 UPDATE 한 번으로 확인과 차감을 처리, 0이면 잔액 부족)
+    @Modifying
+    @Query("UPDATE User u SET u.remainingPoint = u.remainingPoint - :amount " +
+            "WHERE u.id = :userId AND u.remainingPoint >= :amount")
+    int deductRemainingPoint(@Param("userId") Long userId, @Param("amount") int amount);
+
+    @Query("SELECT u.remainingPoint FROM User u WHERE u.id = :userId")
+    Optional<Integer> findRemainingPointById(@Param("userId") Long userId);
+
+    @Query("SELECT new com.dd.blog.domain.user.user.dto.UserRoleStatDto(u.id, u.role, u.totalPoint) " +
+            "FROM User u WHERE u.id IN :userIds")
+    List<UserRoleStatDto> findRoleStatsByIdIn(@Param("userIds") Collection<Long> userIds);
+
+    // 등급만 변경 (읽은 등급 그대로일 때만, 다른 컬럼은 건드리지 않음)
+    @Modifying
+    @Query("UPDATE User u SET u.role = :role WHERE u.id = :userId AND u.role = :currentRole")
+    int updateRole(@Param("userId") Long userId, @Param("currentRole") UserRole currentRole, @Param("role") UserRole role);
+
+    @Query("SELECT u.followerCount FROM User u WHERE u.id = :userId")
+    Optional<Integer> findFollowerCountById(@Param("userId") Long userId);
+
+    @Query("SELECT u.followingCount FROM User u WHERE u.id = :userId")
+    Optional<Integer> findFollowingCountById(@Param("userId") Long userId);
+
+    // 팔로우 시 두 사용자의 팔로워/팔로잉 수를 한 번의 UPDATE로 증가
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.followerCount = u.followerCount + CASE WHEN u.id = :followingId THEN 1 ELSE 0 END, " +
+            "u.followingCount = u.followingCount + CASE WHEN u.id = :followerId THEN 1 ELSE 0 END " +
+            "WHERE u.id IN (:followerId, :followingId)")
+    int increaseFollowCounts(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.followerCount = u.followerCount - CASE WHEN u.id = :followingId AND u.followerCount > 0 THEN 1 ELSE 0 END, " +
+            "u.followingCount = u.followingCount - CASE WHEN u.id = :followerId AND u.followingCount > 0 THEN 1 ELSE 0 END " +
+            "WHERE u.id IN (:followerId, :followingId)")
+    int decreaseFollowCounts(@Param("followerId") Long followerId, @Param("followingId") Long followingId);
+
+    // 실제 팔로우 관계와 어긋난 팔로워/팔로잉 수 보정
+    @Modifying
+    @Query("UPDATE User u SET " +
+            "u.followerCount = (SELECT COUNT(f) FROM Follow f WHERE f.following = u AND f.follower <> u), " +
+            "u.followingCount = (SELECT COUNT(f) FROM Follow f WHERE f.follower = u AND f.following <> u) " +
+            "WHERE u.followerCount <> (SELECT COUNT(f) FROM Follow f WHERE f.following = u AND f.follower <> u) " +
+            "   OR u.followingCount <> (SELECT COUNT(f) FROM Follow f WHERE f.follower = u AND f.following <> u)")
+    int reconcileFollowCounts();
 }
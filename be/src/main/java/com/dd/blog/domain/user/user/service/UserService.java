@@ -4,19 +4,25 @@ import com.dd.blog.domain.user.user.dto.*;
 import com.dd.blog.domain.user.user.entity.User;
 import com.dd.blog.domain.user.user.entity.UserRole;
 import com.dd.blog.domain.user.user.entity.UserStatus;
+import com.dd.blog.domain.user.user.event.UserNicknameChangedEvent;
 import com.dd.blog.domain.user.user.repository.UserRepository;
 import com.dd.blog.global.aws.AwsS3Uploader;
+import com.dd.blog.global.aws.UploadedImage;
 import com.dd.blog.global.exception.ApiException;
 import com.dd.blog.global.exception.ErrorCode;
 import jakarta.persistence.EntityNotFoundException;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.context.ApplicationEventPublisher;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 import org.springframework.web.multipart.MultipartFile;
 
 import java.io.IOException;
+import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
@@ -29,6 +35,8 @@ public class UserService {
     private final PasswordEncoder passwordEncoder;
     private final AuthTokenService authTokenService;
     private final AwsS3Uploader awsS3Uploader;
+    private final PlatformTransactionManager transactionManager;
+    private final ApplicationEventPublisher eventPublisher;
 
     /**
      * 이메일 중복 체크
@@ -90,6 +98,7 @@ public class UserService {
             // 필요한 경우 닉네임 업데이트
             if (!user.getNickname().equals(nickname)) {
                 user.updateNickname(nickname);
+                eventPublisher.publishEvent(new UserNicknameChangedEvent(this, user.getId(), nickname));
             }
 
             // socialId가 없으면(일반 회원이면) 소셜 정보 추가
@@ -215,12 +224,10 @@ public class UserService {
     }
 
     //프로필정보 수정
-    @Transactional
+    // 이미지 업로드는 트랜잭션 밖에서 먼저 처리하고, 트랜잭션에서는 URL만 반영
     public UserResponseDto updateProfile(Long userId, UpdateProfileRequestDto request, MultipartFile profileImage) throws IOException {
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
-
         String imageUrl = request.getProfileImageUrl(); //새로 바꾼 사진이 없다면 기존 사진 유지
+        List<UploadedImage> uploadedImages = List.of();
 
         // 이미지 파일이 있는 경우 확장자 및 크기 검증
         if (profileImage != null && !profileImage.isEmpty()) {
@@ -238,18 +245,35 @@ public class UserService {
                 throw new ApiException(ErrorCode.INVALID_INPUT_VALUE);
             }
             // 3. S3 업로드
-            imageUrl = awsS3Uploader.upload(profileImage, "images/profile");
+            uploadedImages = awsS3Uploader.uploadAll(new MultipartFile[]{profileImage}, "images/profile");
+            imageUrl = uploadedImages.get(0).url();
         }
 
-        user.updateProfile(
-                request.getNickname(),
-                request.getEmail(),
-                request.getStatusMessage(),
-                request.getDetoxGoal(),
-                request.getBirthDate(),
-                imageUrl
-        );
-        return UserResponseDto.fromEntity(user);
+        String profileImageUrl = imageUrl;
+        try {
+            return new TransactionTemplate(transactionManager).execute(status -> {
+                User user = userRepository.findById(userId)
+                        .orElseThrow(() -> new ApiException(ErrorCode.USER_NOT_FOUND));
+                boolean nicknameChanged = !user.getNickname().equals(request.getNickname());
+
+                user.updateProfile(
+                        request.getNickname(),
+                        request.getEmail(),
+                        request.getStatusMessage(),
+                        request.getDetoxGoal(),
+                        request.getBirthDate(),
+                        profileImageUrl
+                );
+                if (nicknameChanged) {
+                    eventPublisher.publishEvent(new UserNicknameChangedEvent(this, userId, user.getNickname()));
+                }
+                return UserResponseDto.fromEntity(user);
+            });
+        } catch (RuntimeException e) {
+            // 반영 실패 시 업로드한 이미지 정리
+            awsS3Uploader.deleteAll(uploadedImages);
+            throw e;
+        }
     }
 
     /**
@@ -5,12 +5,19 @@ import com.amazonaws.auth.AWSStaticCredentialsProvider;
 import com.amazonaws.auth.BasicAWSCredentials;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.amazonaws.services.s3.transfer.TransferManagerBuilder;
+import org.springframework.beans.factory.DisposableBean;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
 @Configuration
 public class AwsS3Config {
+    // 이 크기 이상이면 멀티파트 업로드 (S3 최소 파트 크기 5MB)
+    public static final long MULTIPART_UPLOAD_THRESHOLD = 8L * 1024 * 1024;
+    private static final long MULTIPART_UPLOAD_PART_SIZE = 5L * 1024 * 1024;
+
     @Value("${cloud.aws.credentials.accessKey}")
     private String accessKey;
 
@@ -30,5 +37,20 @@ public class AwsS3Config {
                 .withRegion(region)
                 .build();
     }
-}
 
+    // 종료 시 shutdownNow()를 그대로 호출하면 공용 AmazonS3 클라이언트까지 닫히므로 아래에서 직접 종료
+    @Bean(destroyMethod = "")
+    public TransferManager transferManager(AmazonS3 amazonS3) {
+        return TransferManagerBuilder.standard()
+                .withS3Client(amazonS3)
+                .withMultipartUploadThreshold(MULTIPART_UPLOAD_THRESHOLD)
+                .withMinimumUploadPartSize(MULTIPART_UPLOAD_PART_SIZE)
+                .build();
+    }
+
+    // TransferManager 스레드 풀만 종료 (AmazonS3 클라이언트는 유지)
+    @Bean
+    public DisposableBean transferManagerShutdown(TransferManager transferManager) {
+        return () -> transferManager.shutdownNow(false);
+    }
+}
@@ -3,19 +3,38 @@ package com.dd.blog.global.aws;
 import com.amazonaws.services.s3.AmazonS3;
 import com.amazonaws.services.s3.AmazonS3Client;
 import com.amazonaws.services.s3.model.CannedAccessControlList;
+import com.amazonaws.services.s3.model.ObjectMetadata;
 import com.amazonaws.services.s3.model.PutObjectRequest;
+import com.amazonaws.services.s3.transfer.TransferManager;
+import com.dd.blog.domain.post.image.service.ImageObjectService;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.ApplicationEventPublisher;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.stereotype.Component;
 import org.springframework.stereotype.Service;
 import org.springframework.web.multipart.MultipartFile;
 
-import java.io.File;
-import java.io.FileOutputStream;
 import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.net.URI;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.ArrayList;
+import java.util.HexFormat;
+import java.util.List;
 import java.util.Optional;
 import java.util.UUID;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
 
 @Slf4j
 @RequiredArgsConstructor
@@ -24,52 +43,171 @@ import java.util.UUID;
 public class AwsS3Uploader {
 
     private final AmazonS3 amazonS3;
+    private final TransferManager transferManager;
+    private final ApplicationEventPublisher eventPublisher;
+    private final ImageObjectService imageObjectService;
+
+    // 동시에 진행되는 S3 업로드 수 제한 (전체 요청 공용)
+    private static final int MAX_CONCURRENT_UPLOADS = 8;
+    private final Semaphore uploadPermits = new Semaphore(MAX_CONCURRENT_UPLOADS);
 
     @Value("${cloud.aws.s3.bucket}")
     private String bucket;
 
-    // MultipartFile을 전달받아 File로 전환한 후 S3에 업로드
+    // 여러 파일을 가상 스레드로 동시에 업로드 (DB 트랜잭션 밖에서 호출)
+    // 하나라도 실패하면 이번에 새로 올린 파일은 삭제하고 예외를 던짐
+    public List<UploadedImage> uploadAll(MultipartFile[] multipartFiles, String dirName) throws IOException {
+        List<UploadedImage> uploadedImages = new ArrayList<>();
+        if (multipartFiles == null || multipartFiles.length == 0) {
+            return uploadedImages;
+        }
+
+        List<Future<UploadedImage>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (MultipartFile multipartFile : multipartFiles) {
+                futures.add(executor.submit(() -> uploadWithPermit(multipartFile, dirName)));
+            }
+        }
+
+        Throwable failure = null;
+        for (Future<UploadedImage> future : futures) {
+            try {
+                uploadedImages.add(future.get());
+            } catch (ExecutionException e) {
+                if (failure == null) failure = e.getCause();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                if (failure == null) failure = e;
+            }
+        }
+
+        if (failure != null) {
+            deleteAll(uploadedImages);
+            if (failure instanceof IOException ioException) throw ioException;
+            if (failure instanceof RuntimeException runtimeException) throw runtimeException;
+            throw new IOException("이미지 업로드 실패", failure);
+        }
+        return uploadedImages;
+    }
+
+    private UploadedImage uploadWithPermit(MultipartFile multipartFile, String dirName) throws IOException, InterruptedException {
+        uploadPermits.acquire();
+        try {
+            return store(multipartFile, dirName);
+        } finally {
+            uploadPermits.release();
+        }
+    }
+
+    // 업로드한 파일 사용 반납 (트랜잭션 실패 시 정리용, 실패해도 예외를 던지지 않음)
+    // 중복으로 재사용한 객체도 반납하고, 다른 업로드가 사용 중이 아닐 때만 S3 객체 삭제
+    public void deleteAll(List<UploadedImage> uploadedImages) {
+        for (UploadedImage uploadedImage : uploadedImages) {
+            try {
+                if (imageObjectService.release(uploadedImage.url())) {
+                    amazonS3.deleteObject(bucket, extractKey(uploadedImage.url()));
+                    eventPublisher.publishEvent(new ImageDeletedEvent(this, uploadedImage.url()));
+                }
+            } catch (Exception e) {
+                log.warn("S3 파일 삭제 실패: {}", uploadedImage.url(), e);
+            }
+        }
+    }
+
+    // virtual-hosted 형식(/key)과 path-style 형식(/bucket/key) URL 모두 처리
+    private String extractKey(String imageUrl) {
+        String path = URI.create(imageUrl).getRawPath();
+        String key = URLDecoder.decode(path.startsWith("/") ? path.substring(1) : path, StandardCharsets.UTF_8);
+        return key.startsWith(bucket + "/") ? key.substring(bucket.length() + 1) : key;
+    }
+
     public String upload(MultipartFile multipartFile, String dirName) throws IOException {
-        File uploadFile = convert(multipartFile)
-                .orElseThrow(() -> new IllegalArgumentException("MultipartFile -> File 전환 실패"));
-        return upload(uploadFile, dirName);
+        return store(multipartFile, dirName).url();
     }
 
-    private String upload(File uploadFile, String dirName) {
-        String ext = getFileExtension(uploadFile.getName());
+    // 같은 디렉토리에 같은 내용의 파일이 이미 있으면 PUT 없이 기존 URL 반환
+    private UploadedImage store(MultipartFile multipartFile, String dirName) throws IOException {
+        String contentHash = hash(multipartFile);
+        Optional<String> existingUrl = imageObjectService.claimImageUrl(dirName, contentHash);
+        if (existingUrl.isPresent()) {
+            return new UploadedImage(existingUrl.get(), false);
+        }
+
+        String originalFilename = multipartFile.getOriginalFilename() != null ? multipartFile.getOriginalFilename() : "";
+        String ext = getFileExtension(originalFilename);
         String uuid = UUID.randomUUID().toString(); //UUID를 적용하여 같은 이미지파일이어도 고유한 이름을 부여하여 전송
         String fileName = dirName + "/" + uuid + ext;
+        String uploadImageUrl = putStream(multipartFile, fileName);
+
+        try {
+            imageObjectService.register(dirName, contentHash, fileName, uploadImageUrl, multipartFile.getSize());
+        } catch (DataIntegrityViolationException e) {
+            // 같은 내용이 동시에 업로드된 경우 먼저 등록된 객체를 사용
+            // 어느 경우든 방금 올린 객체는 쓰이지 않으므로 삭제
+            Optional<String> concurrentUrl;
+            try {
+                concurrentUrl = imageObjectService.claimImageUrl(dirName, contentHash);
+            } finally {
+                deleteQuietly(fileName);
+            }
+            if (concurrentUrl.isPresent()) {
+                return new UploadedImage(concurrentUrl.get(), false);
+            }
+            throw e;
+        }
 
-        String uploadImageUrl = putS3(uploadFile, fileName);
-        removeNewFile(uploadFile);  // 로컬에 생성된 File 삭제 (MultipartFile -> File 전환 하며 로컬에 파일 생성됨)
-        return uploadImageUrl;      // 업로드된 파일의 S3 URL 주소 반환
+        eventPublisher.publishEvent(new ImageUploadedEvent(this, dirName, fileName, uploadImageUrl));
+        return new UploadedImage(uploadImageUrl, true);
     }
 
-    private String putS3(File uploadFile, String fileName) {
-        amazonS3.putObject(
-                new PutObjectRequest(bucket, fileName, uploadFile)
-                        .withCannedAcl(CannedAccessControlList.PublicRead)	// PublicRead 권한으로 업로드 됨
-        );
-        return amazonS3.getUrl(bucket, fileName).toString();
+    private void deleteQuietly(String fileName) {
+        try {
+            amazonS3.deleteObject(bucket, fileName);
+        } catch (Exception e) {
+            log.warn("S3 파일 삭제 실패: {}", fileName, e);
+        }
     }
 
-    private void removeNewFile(File targetFile) {
-        if(targetFile.delete()) {
-            log.info("파일이 삭제되었습니다.");
-        }else {
-            log.info("파일이 삭제되지 못했습니다.");
+    // 스트림으로 읽으면서 SHA-256 계산 (파일 전체를 메모리에 올리지 않음)
+    private String hash(MultipartFile multipartFile) throws IOException {
+        MessageDigest digest;
+        try {
+            digest = MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+        try (InputStream inputStream = new DigestInputStream(multipartFile.getInputStream(), digest)) {
+            inputStream.transferTo(OutputStream.nullOutputStream());
         }
+        return HexFormat.of().formatHex(digest.digest());
     }
 
-    private Optional<File> convert(MultipartFile file) throws  IOException {
-        File convertFile = new File(file.getOriginalFilename());
-        if(convertFile.createNewFile()) {
-            try (FileOutputStream fos = new FileOutputStream(convertFile)) {
-                fos.write(file.getBytes());
-            }
-            return Optional.of(convertFile);
+    // MultipartFile 스트림을 그대로 S3에 업로드 (힙에 전체를 올리거나 로컬 파일을 만들지 않음)
+    private String putStream(MultipartFile multipartFile, String fileName) throws IOException {
+        ObjectMetadata metadata = new ObjectMetadata();
+        metadata.setContentLength(multipartFile.getSize());
+        metadata.setContentType(multipartFile.getContentType());
+
+        try (InputStream inputStream = multipartFile.getInputStream()) {
+            PutObjectRequest request = new PutObjectRequest(bucket, fileName, inputStream, metadata)
+                    .withCannedAcl(CannedAccessControlList.PublicRead);	// PublicRead 권한으로 업로드 됨
+            putS3(request, multipartFile.getSize());
+        }
+        return amazonS3.getUrl(bucket, fileName).toString();      // 업로드된 파일의 S3 URL 주소 반환
+    }
+
+    // 큰 파일은 멀티파트 업로드 (파트 단위로 스트림을 읽어 전송)
+    private void putS3(PutObjectRequest request, long contentLength) throws IOException {
+        if (contentLength < AwsS3Config.MULTIPART_UPLOAD_THRESHOLD) {
+            amazonS3.putObject(request);
+            return;
+        }
+        try {
+            transferManager.upload(request).waitForCompletion();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("S3 업로드 중단", e);
         }
-        return Optional.empty();
     }
 
     private String getFileExtension(String fileName) {
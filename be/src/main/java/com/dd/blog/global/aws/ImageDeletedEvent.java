@@ -0,0 +1,15 @@
+package com.dd.blog.global.aws;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// S3 이미지 삭제 이벤트 (업로드 후 트랜잭션 실패로 정리된 경우, 대기 중인 변환 작업 취소용)
+@Getter
+public class ImageDeletedEvent extends ApplicationEvent {
+    private final String imageUrl;
+
+    public ImageDeletedEvent(Object source, String imageUrl) {
+        super(source);
+        this.imageUrl = imageUrl;
+    }
+}
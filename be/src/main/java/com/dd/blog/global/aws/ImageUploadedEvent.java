@@ -0,0 +1,19 @@
+package com.dd.blog.global.aws;
+
+import lombok.Getter;
+import org.springframework.context.ApplicationEvent;
+
+// S3 이미지 업로드 완료 이벤트 (썸네일 등 변환 작업 등록용)
+@Getter
+public class ImageUploadedEvent extends ApplicationEvent {
+    private final String dirName;
+    private final String objectKey;
+    private final String imageUrl;
+
+    public ImageUploadedEvent(Object source, String dirName, String objectKey, String imageUrl) {
+        super(source);
+        this.dirName = dirName;
+        this.objectKey = objectKey;
+        this.imageUrl = imageUrl;
+    }
+}
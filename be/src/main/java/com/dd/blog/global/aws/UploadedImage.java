@@ -0,0 +1,13 @@
+package com.dd.blog.global.aws;
+
+import java.util.List;
+
+// 업로드 결과 (stored: 이번 요청에서 새로 저장한 객체인지, 중복이면 기존 객체 URL, 어느 쪽이든 실패 시 deleteAll로 반납)
+public record UploadedImage(
+        String url,
+        boolean stored
+) {
+    public static List<String> urls(List<UploadedImage> images) {
+        return images.stream().map(UploadedImage::url).toList();
+    }
+}
@@ -0,0 +1,15 @@
+package com.dd.blog.global.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Getter;
+
+import java.util.List;
+
+// 커서 기반 페이지 응답
+@Getter
+@AllArgsConstructor
+public class CursorResponseDto<T> {
+    private List<T> content;
+    private String nextCursor; // 다음 페이지 조회용 커서 (마지막 페이지면 null)
+    private boolean hasNext;
+}
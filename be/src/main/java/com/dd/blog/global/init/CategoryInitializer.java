@@ -2,29 +2,48 @@ package com.dd.blog.global.init;
 
 import com.dd.blog.domain.post.category.entity.Category;
 import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.category.service.CategoryRegistry;
 import lombok.RequiredArgsConstructor;
 import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
 import org.springframework.stereotype.Component;
 
+// 다른 초기화 작업이 게시판 정책을 사용하므로 가장 먼저 실행
+@Order(Ordered.HIGHEST_PRECEDENCE)
 @Component
 @RequiredArgsConstructor
 public class CategoryInitializer implements CommandLineRunner {
 
     private final CategoryRepository categoryRepository;
+    private final CategoryRegistry categoryRegistry;
 
     @Override
     public void run(String... args) {
-        saveIfNotExist("인증게시판");
-        saveIfNotExist("정보공유게시판");
-        saveIfNotExist("자유게시판");
-        saveIfNotExist("공지사항");// 필요하면 추가
+        // 이름, 인증게시판 여부, 이미지 필수, 하루 작성 제한(0: 없음), 관리자 전용, 지급 포인트
+        saveIfNotExist("인증게시판", true, true, 1, false, 50);
+        saveIfNotExist("정보공유게시판", false, false, 10, false, 20);
+        saveIfNotExist("자유게시판", false, false, 10, false, 10);
+        saveIfNotExist("공지사항", false, false, 0, true, 0);// 필요하면 추가
+
+        categoryRegistry.reload();
     }
 
-    private void saveIfNotExist(String name) {
-        if (categoryRepository.findByCategoryName(name) == null) {
-            Category category = new Category();
+    // 없으면 생성, 정책이 비어 있으면 기본값으로 채움 (관리자가 바꾼 값은 유지)
+    private void saveIfNotExist(String name, boolean verificationBoard, boolean imageRequired,
+                                int dailyPostLimit, boolean adminOnly, int pointReward) {
+        Category category = categoryRepository.findByCategoryName(name);
+        if (category == null) {
+            category = new Category();
             category.setCategoryName(name);
-            categoryRepository.save(category);
         }
+
+        if (category.getVerificationBoard() == null) category.setVerificationBoard(verificationBoard);
+        if (category.getImageRequired() == null) category.setImageRequired(imageRequired);
+        if (category.getDailyPostLimit() == null) category.setDailyPostLimit(dailyPostLimit);
+        if (category.getAdminOnly() == null) category.setAdminOnly(adminOnly);
+        if (category.getPointReward() == null) category.setPointReward(pointReward);
+
+        categoryRepository.save(category);
     }
 }
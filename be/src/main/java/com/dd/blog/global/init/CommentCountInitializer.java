@@ -0,0 +1,19 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.comment.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 게시글 댓글 수 컬럼 보정 (컬럼 추가 전 데이터 포함)
+@Component
+@RequiredArgsConstructor
+public class CommentCountInitializer implements CommandLineRunner {
+
+    private final CommentService commentService;
+
+    @Override
+    public void run(String... args) {
+        commentService.reconcileCommentCounts();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.comment.service.CommentService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CommentThreadInitializer implements CommandLineRunner {
+
+    private final CommentService commentService;
+
+    @Override
+    public void run(String... args) {
+        int updated = commentService.backfillThreads();
+        if (updated > 0) {
+            log.info("댓글 스레드 정보 보정 {}건", updated);
+        }
+    }
+}
@@ -0,0 +1,19 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.user.follow.service.FollowService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 팔로워/팔로잉 수 컬럼 보정 (컬럼 추가 전 데이터 포함)
+@Component
+@RequiredArgsConstructor
+public class FollowCountInitializer implements CommandLineRunner {
+
+    private final FollowService followService;
+
+    @Override
+    public void run(String... args) {
+        followService.reconcileFollowCounts();
+    }
+}
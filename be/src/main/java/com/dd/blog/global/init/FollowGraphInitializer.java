@@ -0,0 +1,18 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.user.follow.service.FollowGraphService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class FollowGraphInitializer implements CommandLineRunner {
+
+    private final FollowGraphService followGraphService;
+
+    @Override
+    public void run(String... args) {
+        followGraphService.rebuild();
+    }
+}
@@ -0,0 +1,28 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.user.follow.service.FollowService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+
+// 유니크 제약 추가 전 쌓인 중복 팔로우 정리 (팔로우 수/타임라인/팔로우 그래프 초기화보다 먼저 실행)
+// 중복이 있으면 이번 기동의 스키마 갱신에서 follow_uk 생성이 실패하므로 정리 후 재기동해야 제약이 생김
+@Slf4j
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 1)
+@RequiredArgsConstructor
+public class FollowInitializer implements CommandLineRunner {
+
+    private final FollowService followService;
+
+    @Override
+    public void run(String... args) {
+        int deleted = followService.removeDuplicateFollows();
+        if (deleted > 0) {
+            log.warn("중복 팔로우 {}건 정리, follow_uk 생성을 위해 재기동 필요", deleted);
+        }
+    }
+}
@@ -0,0 +1,24 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.image.service.ImageObjectService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 사용 수 컬럼 추가 전 등록된 이미지 객체 보정 (반납 시 사용 중인 객체가 삭제되지 않도록)
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageObjectInitializer implements CommandLineRunner {
+
+    private final ImageObjectService imageObjectService;
+
+    @Override
+    public void run(String... args) {
+        int updated = imageObjectService.initializeLegacyRefCounts();
+        if (updated > 0) {
+            log.info("이미지 객체 사용 수 보정 {}건", updated);
+        }
+    }
+}
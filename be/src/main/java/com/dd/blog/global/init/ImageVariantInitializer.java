@@ -0,0 +1,23 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.image.service.ImageVariantService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class ImageVariantInitializer implements CommandLineRunner {
+
+    private final ImageVariantService imageVariantService;
+
+    @Override
+    public void run(String... args) {
+        int recovered = imageVariantService.recoverInterruptedJobs();
+        if (recovered > 0) {
+            log.info("중단된 이미지 변환 작업 {}건 재등록", recovered);
+        }
+    }
+}
@@ -0,0 +1,25 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.point.pointstore.service.PointStoreService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+// 유니크 제약 추가 전 쌓인 중복 구매 정리
+// 중복이 있으면 이번 기동의 스키마 갱신에서 point_item_purchase_uk 생성이 실패하므로 정리 후 재기동해야 제약이 생김
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointItemPurchaseInitializer implements CommandLineRunner {
+
+    private final PointStoreService pointStoreService;
+
+    @Override
+    public void run(String... args) {
+        int deleted = pointStoreService.removeDuplicatePurchases();
+        if (deleted > 0) {
+            log.warn("중복 구매 {}건 정리, point_item_purchase_uk 생성을 위해 재기동 필요", deleted);
+        }
+    }
+}
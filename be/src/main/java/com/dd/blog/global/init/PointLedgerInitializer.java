@@ -0,0 +1,22 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.point.point.service.PointLedgerService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.stereotype.Component;
+
+// 포인트 스냅샷 생성/압축 후 원장 기준으로 잔액 보정
+// 초기 사용자 데이터가 모두 생성된 뒤 실행되도록 CommandLineRunner 대신 ApplicationReadyEvent 사용
+@Component
+@RequiredArgsConstructor
+public class PointLedgerInitializer {
+
+    private final PointLedgerService pointLedgerService;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void run() {
+        pointLedgerService.compactSnapshots();
+        pointLedgerService.reconcileBalances();
+    }
+}
@@ -0,0 +1,23 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.post.service.PostService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PostDisplayImageInitializer implements CommandLineRunner {
+
+    private final PostService postService;
+
+    @Override
+    public void run(String... args) {
+        int updated = postService.backfillDisplayImages();
+        if (updated > 0) {
+            log.info("표시용 이미지 보정 게시글 {}건", updated);
+        }
+    }
+}
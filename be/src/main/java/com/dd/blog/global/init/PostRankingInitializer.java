@@ -0,0 +1,18 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.ranking.service.PostRankingService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostRankingInitializer implements CommandLineRunner {
+
+    private final PostRankingService postRankingService;
+
+    @Override
+    public void run(String... args) {
+        postRankingService.warmUp();
+    }
+}
@@ -0,0 +1,18 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.search.service.PostSearchService;
+import lombok.RequiredArgsConstructor;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Component
+@RequiredArgsConstructor
+public class PostSearchInitializer implements CommandLineRunner {
+
+    private final PostSearchService postSearchService;
+
+    @Override
+    public void run(String... args) {
+        postSearchService.rebuild();
+    }
+}
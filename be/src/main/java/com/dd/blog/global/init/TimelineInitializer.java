@@ -0,0 +1,26 @@
+package com.dd.blog.global.init;
+
+import com.dd.blog.domain.post.timeline.service.TimelineService;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.CommandLineRunner;
+import org.springframework.stereotype.Component;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TimelineInitializer implements CommandLineRunner {
+
+    private final TimelineService timelineService;
+
+    @Override
+    public void run(String... args) {
+        timelineService.reloadPullAuthors();
+
+        // 타임라인이 비어 있으면 기존 팔로우 관계와 게시글로 채움 (최초 배포 시)
+        if (timelineService.isEmpty()) {
+            int seeded = timelineService.seedFromFollows();
+            log.info("기존 팔로우 관계로 타임라인 {}건 적재", seeded);
+        }
+    }
+}
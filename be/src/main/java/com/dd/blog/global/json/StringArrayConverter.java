@@ -7,16 +7,20 @@ import jakarta.persistence.Converter;
 @Converter
 public class StringArrayConverter implements AttributeConverter<String[], String> {
     private static final Gson gson = new Gson();
+    private static final String[] EMPTY = new String[0];
+    private static final String EMPTY_JSON = "[]";
 
     @Override
     public String convertToDatabaseColumn(String[] attribute) {
         if (attribute == null) return null;
+        if (attribute.length == 0) return EMPTY_JSON;
         return gson.toJson(attribute);
     }
 
     @Override
     public String[] convertToEntityAttribute(String dbData) {
-        if (dbData == null || dbData.isEmpty()) return new String[0];
+        // 이미지가 없는 게시글이 대부분이므로 파싱 없이 공용 빈 배열 반환
+        if (dbData == null || dbData.isEmpty() || EMPTY_JSON.equals(dbData)) return EMPTY;
         try {
             return gson.fromJson(dbData, String[].class);
         } catch (Exception e) {
@@ -24,7 +28,7 @@ public class StringArrayConverter implements AttributeConverter<String[], String
             if (dbData.contains(",") && !dbData.contains("[")) {
                 return dbData.split(",");
             }
-            return new String[0];
+            return EMPTY;
         }
     }
 }
@@ -89,8 +89,9 @@ public class CustomAuthenticationFilter extends OncePerRequestFilter {
             return;
         }
 
+        // 게시글 조회는 인증 없이 통과 (좋아요 확인, viewer=true 목록 조회는 로그인 사용자 확인 필요)
         if (request.getMethod().equals("GET") && request.getRequestURI().startsWith("/api/v1/posts")) {
-            if (!request.getRequestURI().contains("/like/check")) {
+            if (!request.getRequestURI().contains("/like/check") && !"true".equals(request.getParameter("viewer"))) {
                 filterChain.doFilter(request, response);
                 return;
             }
@@ -0,0 +1,111 @@
+package com.dd.blog.global.utils;
+
+import com.dd.blog.global.exception.ApiException;
+import com.dd.blog.global.exception.ErrorCode;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+// 커서 기반 페이징용 커서 인코딩/디코딩
+// 클라이언트에는 정렬키와 id를 묶은 불투명(opaque) 문자열로만 노출
+public class CursorUtil {
+
+    private static final String DELIMITER = "|";
+
+    // (createdAt, id) 커서
+    public record CreatedAtCursor(LocalDateTime createdAt, long id) {
+        // 첫 페이지 조회용 (모든 행보다 큰 값)
+        public static final CreatedAtCursor FIRST = new CreatedAtCursor(LocalDateTime.of(9999, 12, 31, 23, 59, 59), Long.MAX_VALUE);
+    }
+
+    // (likeCount, id) 커서
+    public record LikeCountCursor(int likeCount, long id) {
+        public static final LikeCountCursor FIRST = new LikeCountCursor(Integer.MAX_VALUE, Long.MAX_VALUE);
+    }
+
+    // id 단독 커서 (id 내림차순 목록용)
+    public static final long FIRST_ID = Long.MAX_VALUE;
+
+    // 한 페이지 최대 조회 개수
+    public static final int MAX_PAGE_SIZE = 100;
+
+    // 페이지 크기 보정 (0 이하는 1, 최대 MAX_PAGE_SIZE)
+    public static int clampSize(int size) {
+        return Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+    }
+
+    public static String encode(CreatedAtCursor cursor) {
+        return encode(cursor.createdAt() + DELIMITER + cursor.id());
+    }
+
+    public static String encode(LikeCountCursor cursor) {
+        return encode(cursor.likeCount() + DELIMITER + cursor.id());
+    }
+
+    public static String encodeId(long id) {
+        return encode(String.valueOf(id));
+    }
+
+    // 댓글 path 커서 (path 오름차순 목록용)
+    public static String encodePath(String path) {
+        return encode(path);
+    }
+
+    // 커서가 없으면 첫 페이지
+    public static CreatedAtCursor decodeCreatedAt(String cursor) {
+        if (cursor == null || cursor.isBlank()) return CreatedAtCursor.FIRST;
+
+        String[] values = decode(cursor, 2);
+        try {
+            return new CreatedAtCursor(LocalDateTime.parse(values[0]), Long.parseLong(values[1]));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static LikeCountCursor decodeLikeCount(String cursor) {
+        if (cursor == null || cursor.isBlank()) return LikeCountCursor.FIRST;
+
+        String[] values = decode(cursor, 2);
+        try {
+            return new LikeCountCursor(Integer.parseInt(values[0]), Long.parseLong(values[1]));
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static long decodeId(String cursor) {
+        if (cursor == null || cursor.isBlank()) return FIRST_ID;
+
+        String[] values = decode(cursor, 1);
+        try {
+            return Long.parseLong(values[0]);
+        } catch (RuntimeException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+
+    public static String decodePath(String cursor) {
+        if (cursor == null || cursor.isBlank()) return "";
+
+        String path = decode(cursor, 1)[0];
+        if (!path.matches("[0-9/]+")) throw new ApiException(ErrorCode.INVALID_CURSOR);
+        return path;
+    }
+
+    private static String encode(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decode(String cursor, int length) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] values = raw.split("\\" + DELIMITER);
+            if (values.length != length) throw new ApiException(ErrorCode.INVALID_CURSOR);
+            return values;
+        } catch (IllegalArgumentException e) {
+            throw new ApiException(ErrorCode.INVALID_CURSOR);
+        }
+    }
+}
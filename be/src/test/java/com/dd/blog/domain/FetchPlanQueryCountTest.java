@@ -0,0 +1,152 @@
+package com.dd.blog.domain;
+
+import com.dd.blog.domain.admin.dto.AdminReportDto;
+import com.dd.blog.domain.admin.service.AdminReportService;
+import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.comment.dto.CommentRequestDto;
+import com.dd.blog.domain.post.comment.dto.CommentResponseDto;
+import com.dd.blog.domain.post.comment.service.CommentService;
+import com.dd.blog.domain.post.post.dto.PostResponseDto;
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.post.service.PostService;
+import com.dd.blog.domain.report.entity.Report;
+import com.dd.blog.domain.report.repository.ReportRepository;
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.global.dto.CursorResponseDto;
+import com.dd.blog.support.IntegrationTestSupport;
+import com.dd.blog.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 목록/상세/관리자 신고 조회가 각자 필요한 fetch plan만 한 번에 읽는지 SQL 수로 확인
+class FetchPlanQueryCountTest extends IntegrationTestSupport {
+
+    private static final int ROW_COUNT = 15;
+    private static final int PAGE_SIZE = 10;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private CommentService commentService;
+    @Autowired
+    private AdminReportService adminReportService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private ReportRepository reportRepository;
+
+    private final List<User> users = new ArrayList<>();
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        Category freeBoard = categoryRepository.findAll().stream()
+                .filter(category -> !Boolean.TRUE.equals(category.getVerificationBoard()))
+                .filter(category -> !Boolean.TRUE.equals(category.getAdminOnly()))
+                .findFirst()
+                .orElseThrow();
+
+        users.clear();
+        posts.clear();
+        for (int i = 0; i < ROW_COUNT; i++) {
+            String suffix = UUID.randomUUID().toString().substring(0, 8);
+            User user = userRepository.save(User.builder()
+                    .email("plan-" + suffix + "@test.com")
+                    .nickname("plan-" + suffix)
+                    .role(UserRole.ROLE_USER_SPROUT)
+                    .build());
+            Post post = Post.builder()
+                    .user(user)
+                    .category(freeBoard)
+                    .title("제목 " + i)
+                    .content("내용 " + i)
+                    .imageUrl(new String[]{"https://test-bucket.s3.amazonaws.com/images/" + suffix + ".png"})
+                    .build();
+            post.refreshDisplayImages(false);
+            users.add(user);
+            posts.add(postRepository.save(post));
+        }
+    }
+
+    @Test
+    void 게시글_목록() {
+        QueryCounter.start();
+        Page<PostResponseDto> page = postService.getAllPostsPageable(0, PAGE_SIZE, "createdAt", Sort.Direction.DESC);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allMatch(dto -> dto.getUserNickname() != null);
+        // 목록(작성자 조인) + count + 썸네일 IN
+        assertThat(queryCount).isEqualTo(3);
+    }
+
+    @Test
+    void 게시글_상세() {
+        Long postId = posts.get(0).getId();
+
+        QueryCounter.start();
+        PostResponseDto dto = postService.getPostById(postId);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(dto.getUserNickname()).isEqualTo(users.get(0).getNickname());
+        // 게시글(작성자, 카테고리 함께) + 썸네일
+        assertThat(queryCount).isEqualTo(2);
+
+        // 두 번째 조회는 캐시 적중
+        QueryCounter.start();
+        postService.getPostById(postId);
+        assertThat(QueryCounter.stop()).isZero();
+    }
+
+    @Test
+    void 댓글_목록() {
+        Long postId = posts.get(0).getId();
+        for (User user : users) {
+            commentService.writeComment(postId, new CommentRequestDto(postId, null, "댓글"), user.getId());
+        }
+
+        QueryCounter.start();
+        CursorResponseDto<CommentResponseDto> page = commentService.getRootCommentsCursor(postId, null, PAGE_SIZE);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        // 게시글 존재 확인 + 댓글(작성자 함께)
+        assertThat(queryCount).isEqualTo(2);
+    }
+
+    @Test
+    void 관리자_신고_목록() {
+        for (int i = 0; i < ROW_COUNT; i++) {
+            Post post = posts.get(i);
+            User reporter = users.get((i + 1) % ROW_COUNT);
+            reportRepository.save(Report.createReport(post, users.get(i), reporter, "신고 " + i));
+        }
+
+        QueryCounter.start();
+        Page<AdminReportDto> page = adminReportService.getPendingReports(PageRequest.of(0, PAGE_SIZE));
+        int queryCount = QueryCounter.stop();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allMatch(dto -> dto.getReportedPostCategoryName() != null);
+        // 신고(신고자, 작성자, 게시글, 카테고리 함께) + count
+        assertThat(queryCount).isEqualTo(2);
+    }
+}
@@ -0,0 +1,46 @@
+package com.dd.blog.domain.point.point.service;
+
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 적립 반영 시 잔액/등급 컬럼만 갱신하고 사용자 행의 다른 컬럼은 건드리지 않는지 확인
+class PointLedgerServiceTest extends IntegrationTestSupport {
+
+    @Autowired
+    private PointLedgerService pointLedgerService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 적립_반영_시_등업하고_다른_컬럼은_유지() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .email("ledger-" + suffix + "@test.com")
+                .nickname("ledger-" + suffix)
+                .role(UserRole.ROLE_USER_SPROUT)
+                .refreshToken("token-before-" + suffix)
+                .build());
+
+        pointLedgerService.record(user.getId(), 150, "증가");
+        // 반영 전에 다른 요청이 커밋한 변경 (로그인 시 refresh token 갱신)
+        jdbcTemplate.update("UPDATE users SET refresh_token = ? WHERE id = ?", "token-after-" + suffix, user.getId());
+        pointLedgerService.flush();
+
+        User reloaded = userRepository.findById(user.getId()).orElseThrow();
+        assertThat(reloaded.getRemainingPoint()).isEqualTo(150);
+        assertThat(reloaded.getTotalPoint()).isEqualTo(150);
+        assertThat(reloaded.getRole()).isEqualTo(UserRole.getRoleForPoints(150));
+        assertThat(reloaded.getRefreshToken()).isEqualTo("token-after-" + suffix);
+    }
+}
@@ -0,0 +1,148 @@
+package com.dd.blog.domain.point.pointstore.service;
+
+import com.dd.blog.domain.point.pointstore.dto.PointItemPurchaseRequestDto;
+import com.dd.blog.domain.point.pointstore.entity.PointItem;
+import com.dd.blog.domain.point.pointstore.entity.PointItemPurchase;
+import com.dd.blog.domain.point.pointstore.repository.PointItemPurchaseRepository;
+import com.dd.blog.domain.point.pointstore.repository.PointItemRepository;
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 동시 구매 요청에서도 중복 구매/잔액 초과 사용이 없는지 확인
+class PointStoreServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int ATTEMPTS_PER_ITEM = 50;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private PointStoreService pointStoreService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private PointItemRepository pointItemRepository;
+    @Autowired
+    private PointItemPurchaseRepository pointItemPurchaseRepository;
+
+    private List<PointItem> items;
+
+    @BeforeEach
+    void setUp() {
+        items = pointItemRepository.findAll().stream()
+                .sorted(Comparator.comparing(PointItem::getId))
+                .toList();
+        assertThat(items).hasSizeGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void 같은_아이템을_동시에_구매해도_한_번만_구매되고_한_번만_차감() throws Exception {
+        PointItem item = items.get(0);
+        int balance = item.getPrice() * 10;
+        User user = createUser(balance);
+
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS_PER_ITEM; i++) {
+            itemIds.add(item.getId());
+        }
+        int successCount = purchaseConcurrently(user.getId(), itemIds);
+
+        assertThat(successCount).isEqualTo(1);
+        assertThat(purchasesOf(user)).hasSize(1);
+        assertThat(remainingPoint(user)).isEqualTo(balance - item.getPrice());
+    }
+
+    @Test
+    void 여러_아이템을_동시에_구매해도_잔액을_초과해_쓰지_않음() throws Exception {
+        // 가장 비싼 아이템 하나는 살 수 없을 만큼만 지급
+        int totalPrice = items.stream().mapToInt(PointItem::getPrice).sum();
+        int maxPrice = items.stream().mapToInt(PointItem::getPrice).max().orElseThrow();
+        int balance = totalPrice - maxPrice + maxPrice / 2;
+        User user = createUser(balance);
+
+        List<Long> itemIds = new ArrayList<>();
+        for (int i = 0; i < ATTEMPTS_PER_ITEM; i++) {
+            for (PointItem item : items) {
+                itemIds.add(item.getId());
+            }
+        }
+        int successCount = purchaseConcurrently(user.getId(), itemIds);
+
+        List<PointItemPurchase> purchases = purchasesOf(user);
+        Map<Long, Integer> prices = items.stream().collect(Collectors.toMap(PointItem::getId, PointItem::getPrice));
+        int spent = purchases.stream().mapToInt(purchase -> prices.get(purchase.getItem().getId())).sum();
+
+        assertThat(successCount).isEqualTo(purchases.size());
+        assertThat(purchases.size()).isLessThan(items.size());
+        assertThat(purchases).extracting(purchase -> purchase.getItem().getId()).doesNotHaveDuplicates();
+        assertThat(spent).isLessThanOrEqualTo(balance);
+        assertThat(remainingPoint(user)).isEqualTo(balance - spent);
+    }
+
+    private User createUser(int remainingPoint) {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        return userRepository.save(User.builder()
+                .email("store-" + suffix + "@test.com")
+                .nickname("store-" + suffix)
+                .role(UserRole.ROLE_USER_SPROUT)
+                .remainingPoint(remainingPoint)
+                .totalPoint(remainingPoint)
+                .build());
+    }
+
+    private List<PointItemPurchase> purchasesOf(User user) {
+        return pointItemPurchaseRepository.findByUser(user);
+    }
+
+    private int remainingPoint(User user) {
+        return userRepository.findRemainingPointById(user.getId()).orElseThrow();
+    }
+
+    // 모든 구매 요청을 동시에 시작시키고 성공 건수 반환
+    // 중복 구매/잔액 부족 외의 예외가 나면 테스트 실패
+    private int purchaseConcurrently(Long userId, List<Long> itemIds) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Boolean>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for (Long itemId : itemIds) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    PointItemPurchaseRequestDto requestDto = new PointItemPurchaseRequestDto();
+                    ReflectionTestUtils.setField(requestDto, "itemId", itemId);
+                    try {
+                        pointStoreService.purchaseItem(userId, requestDto);
+                        return true;
+                    } catch (IllegalStateException | IllegalArgumentException e) {
+                        return false;
+                    }
+                }));
+            }
+            startLatch.countDown();
+        }
+
+        int successCount = 0;
+        for (Future<Boolean> future : futures) {
+            if (future.get()) {
+                successCount++;
+            }
+        }
+        return successCount;
+    }
+}
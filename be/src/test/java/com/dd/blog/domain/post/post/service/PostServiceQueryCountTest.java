@@ -0,0 +1,136 @@
+package com.dd.blog.domain.post.post.service;
+
+import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.post.dto.PostResponseDto;
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.verification.entity.Verification;
+import com.dd.blog.domain.post.verification.entity.VerificationStatus;
+import com.dd.blog.domain.post.verification.repository.VerificationRepository;
+import com.dd.blog.domain.post.verification.service.VerificationService;
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import com.dd.blog.support.QueryCounter;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Sort;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 게시글 목록 조회 시 인증 상태를 행마다 조회하지 않는지 (N+1) SQL 수로 확인
+class PostServiceQueryCountTest extends IntegrationTestSupport {
+
+    private static final int POST_COUNT = 30;
+    private static final int PAGE_SIZE = 20;
+
+    @Autowired
+    private PostService postService;
+    @Autowired
+    private VerificationService verificationService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private VerificationRepository verificationRepository;
+
+    private User user;
+    private Category verificationBoard;
+    private final List<Post> posts = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        user = userRepository.save(User.builder()
+                .email("count-" + suffix + "@test.com")
+                .nickname("count-" + suffix)
+                .role(UserRole.ROLE_USER_SPROUT)
+                .build());
+        verificationBoard = categoryRepository.findAll().stream()
+                .filter(category -> Boolean.TRUE.equals(category.getVerificationBoard()))
+                .findFirst()
+                .orElseThrow();
+
+        posts.clear();
+        for (int i = 0; i < POST_COUNT; i++) {
+            Post post = Post.builder()
+                    .user(user)
+                    .category(verificationBoard)
+                    .title("인증 " + i)
+                    .content("내용 " + i)
+                    .imageUrl(new String[]{"https://test-bucket.s3.amazonaws.com/images/" + suffix + "-" + i + ".png"})
+                    .detoxTime(60)
+                    .build();
+            post.refreshDisplayImages(true);
+            posts.add(postRepository.save(post));
+            // 절반만 인증 요청 생성 (나머지는 PENDING 기본값)
+            if (i % 2 == 0) {
+                verificationRepository.save(Verification.builder()
+                        .user(user)
+                        .post(posts.get(i))
+                        .status(VerificationStatus.APPROVED)
+                        .detoxTime(60)
+                        .build());
+            }
+        }
+    }
+
+    @Test
+    void 카테고리_목록은_페이지_크기와_무관하게_고정된_수의_쿼리로_조회() {
+        QueryCounter.start();
+        Page<PostResponseDto> page = postService.getPostsByCategoryPageable(
+                verificationBoard.getId(), 0, PAGE_SIZE, "createdAt", Sort.Direction.DESC);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(page.getContent()).allMatch(dto -> dto.getStatus() != null);
+        // 목록 + count + 인증 상태 IN + 썸네일 IN
+        assertThat(queryCount).isEqualTo(4);
+    }
+
+    @Test
+    void 전체_목록도_인증_상태를_한_번에_조회() {
+        QueryCounter.start();
+        Page<PostResponseDto> page = postService.getAllPostsPageable(0, PAGE_SIZE, "createdAt", Sort.Direction.DESC);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(page.getContent()).hasSize(PAGE_SIZE);
+        assertThat(queryCount).isEqualTo(4);
+    }
+
+    @Test
+    void 사용자_게시글_목록도_인증_상태를_한_번에_조회() {
+        QueryCounter.start();
+        List<PostResponseDto> result = postService.getPostsByUser(user.getId());
+        int queryCount = QueryCounter.stop();
+
+        assertThat(result).hasSize(POST_COUNT);
+        // 사용자 존재 확인 + 목록 + 인증 상태 IN + 썸네일 IN
+        assertThat(queryCount).isEqualTo(4);
+    }
+
+    @Test
+    void 인증_상태_일괄_조회는_IN_쿼리_한_번() {
+        List<Long> postIds = posts.stream().map(Post::getId).toList();
+
+        QueryCounter.start();
+        Map<Long, VerificationStatus> statuses = verificationService.getStatusesByPostIds(postIds);
+        int queryCount = QueryCounter.stop();
+
+        assertThat(queryCount).isEqualTo(1);
+        assertThat(statuses).hasSize(POST_COUNT / 2);
+        assertThat(statuses.values()).containsOnly(VerificationStatus.APPROVED);
+    }
+}
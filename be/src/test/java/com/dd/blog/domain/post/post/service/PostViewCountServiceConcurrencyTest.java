@@ -0,0 +1,113 @@
+package com.dd.blog.domain.post.post.service;
+
+import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 조회수 증가와 flush(반영/카운터 제거)가 동시에 일어나도 조회수가 유실되지 않는지 확인
+class PostViewCountServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int THREAD_COUNT = 16;
+    private static final int VIEWS_PER_THREAD = 5000;
+
+    @Autowired
+    private PostViewCountService postViewCountService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Test
+    void 동시_조회와_flush가_섞여도_조회수가_정확() throws Exception {
+        Long postId = createPost();
+        AtomicBoolean viewing = new AtomicBoolean(true);
+        CountDownLatch startLatch = new CountDownLatch(1);
+
+        List<Future<?>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT + 1)) {
+            for (int i = 0; i < THREAD_COUNT; i++) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    for (int j = 0; j < VIEWS_PER_THREAD; j++) {
+                        postViewCountService.increase(postId);
+                        // 중간중간 쉬어서 카운터가 0인 채로 flush되는(맵에서 제거되는) 구간을 만듦
+                        if (j % 500 == 0) {
+                            Thread.sleep(1);
+                        }
+                    }
+                    return null;
+                }));
+            }
+            futures.add(executor.submit(() -> {
+                startLatch.await();
+                while (viewing.get()) {
+                    postViewCountService.flush();
+                }
+                return null;
+            }));
+
+            startLatch.countDown();
+            for (Future<?> future : futures.subList(0, THREAD_COUNT)) {
+                future.get();
+            }
+            viewing.set(false);
+        }
+        for (Future<?> future : futures) {
+            future.get();
+        }
+
+        long expected = (long) THREAD_COUNT * VIEWS_PER_THREAD;
+        assertThat(viewCount(postId) + postViewCountService.getPendingCount(postId)).isEqualTo(expected);
+
+        postViewCountService.flush();
+        assertThat(viewCount(postId)).isEqualTo(expected);
+        assertThat(postViewCountService.getPendingCount(postId)).isZero();
+    }
+
+    private long viewCount(Long postId) {
+        return jdbcTemplate.queryForObject("SELECT view_count FROM post WHERE id = ?", Long.class, postId);
+    }
+
+    private Long createPost() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        User user = userRepository.save(User.builder()
+                .email("view-" + suffix + "@test.com")
+                .nickname("view-" + suffix)
+                .role(UserRole.ROLE_USER_SPROUT)
+                .build());
+        Category freeBoard = categoryRepository.findAll().stream()
+                .filter(category -> !Boolean.TRUE.equals(category.getVerificationBoard()))
+                .filter(category -> !Boolean.TRUE.equals(category.getAdminOnly()))
+                .findFirst()
+                .orElseThrow();
+        return postRepository.save(Post.builder()
+                .user(user)
+                .category(freeBoard)
+                .title("조회수")
+                .content("내용")
+                .build()).getId();
+    }
+}
@@ -0,0 +1,170 @@
+package com.dd.blog.domain.post.postlike.service;
+
+import com.dd.blog.domain.post.category.entity.Category;
+import com.dd.blog.domain.post.category.repository.CategoryRepository;
+import com.dd.blog.domain.post.post.entity.Post;
+import com.dd.blog.domain.post.post.repository.PostRepository;
+import com.dd.blog.domain.post.postlike.repository.PostLikeRepository;
+import com.dd.blog.domain.user.user.entity.User;
+import com.dd.blog.domain.user.user.entity.UserRole;
+import com.dd.blog.domain.user.user.repository.UserRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 인기 게시글에 좋아요가 동시에 몰려도 좋아요 수가 정확한지 확인
+class PostLikeServiceConcurrencyTest extends IntegrationTestSupport {
+
+    private static final int USER_COUNT = 1000;
+    private static final int THREAD_COUNT = 32;
+
+    @Autowired
+    private PostLikeService postLikeService;
+    @Autowired
+    private UserRepository userRepository;
+    @Autowired
+    private CategoryRepository categoryRepository;
+    @Autowired
+    private PostRepository postRepository;
+    @Autowired
+    private PostLikeRepository postLikeRepository;
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    private final List<User> users = new ArrayList<>();
+    private Post post;
+
+    @BeforeEach
+    void setUp() {
+        String suffix = UUID.randomUUID().toString().substring(0, 8);
+        users.clear();
+        List<User> newUsers = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            newUsers.add(User.builder()
+                    .email("like-" + suffix + "-" + i + "@test.com")
+                    .nickname("like-" + suffix + "-" + i)
+                    .role(UserRole.ROLE_USER_SPROUT)
+                    .build());
+        }
+        users.addAll(userRepository.saveAll(newUsers));
+
+        Category freeBoard = categoryRepository.findAll().stream()
+                .filter(category -> !Boolean.TRUE.equals(category.getVerificationBoard()))
+                .filter(category -> !Boolean.TRUE.equals(category.getAdminOnly()))
+                .findFirst()
+                .orElseThrow();
+        post = postRepository.save(Post.builder()
+                .user(users.get(0))
+                .category(freeBoard)
+                .title("인기 게시글")
+                .content("내용")
+                .build());
+    }
+
+    @Test
+    void 동시_좋아요와_중복_좋아요에도_좋아요_수가_정확() throws Exception {
+        // 사용자마다 두 번씩 동시에 좋아요 (두 번째는 무시되어야 함)
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int attempt = 0; attempt < 2; attempt++) {
+            for (User user : users) {
+                tasks.add(() -> {
+                    postLikeService.addLike(user.getId(), post.getId());
+                    return null;
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(USER_COUNT);
+        assertThat(postLikeRepository.countByPost(post)).isEqualTo(USER_COUNT);
+    }
+
+    @Test
+    void 좋아요와_취소가_동시에_섞여도_좋아요_수가_정확() throws Exception {
+        List<User> cancelUsers = users.subList(0, USER_COUNT / 2);
+        for (User user : cancelUsers) {
+            postLikeService.addLike(user.getId(), post.getId());
+        }
+
+        // 앞쪽 절반은 취소, 뒤쪽 절반은 새로 좋아요
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (User user : cancelUsers) {
+            tasks.add(() -> {
+                postLikeService.deleteLike(user.getId(), post.getId());
+                return null;
+            });
+        }
+        for (User user : users.subList(USER_COUNT / 2, USER_COUNT)) {
+            tasks.add(() -> {
+                postLikeService.addLike(user.getId(), post.getId());
+                return null;
+            });
+        }
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(USER_COUNT - cancelUsers.size());
+        assertThat(postLikeRepository.countByPost(post)).isEqualTo(USER_COUNT - cancelUsers.size());
+    }
+
+    @Test
+    void 게시글_수정과_좋아요가_동시에_일어나도_좋아요_수가_정확() throws Exception {
+        TransactionTemplate transactionTemplate = new TransactionTemplate(transactionManager);
+        List<Callable<Void>> tasks = new ArrayList<>();
+        for (int i = 0; i < USER_COUNT; i++) {
+            User user = users.get(i);
+            tasks.add(() -> {
+                postLikeService.addLike(user.getId(), post.getId());
+                return null;
+            });
+            // 변경감지로 게시글 전체 행을 UPDATE하는 수정 요청
+            if (i % 10 == 0) {
+                String title = "수정 " + i;
+                tasks.add(() -> {
+                    transactionTemplate.executeWithoutResult(status ->
+                            postRepository.findById(post.getId()).orElseThrow().update(title, null, null));
+                    return null;
+                });
+            }
+        }
+        runConcurrently(tasks);
+
+        assertThat(likeCount()).isEqualTo(USER_COUNT);
+        assertThat(postLikeRepository.countByPost(post)).isEqualTo(USER_COUNT);
+    }
+
+    private int likeCount() {
+        return postRepository.findLikeStatById(post.getId()).orElseThrow().likeCount();
+    }
+
+    // 모든 작업을 동시에 시작시키고, 하나라도 예외가 나면 테스트 실패
+    private void runConcurrently(List<Callable<Void>> tasks) throws Exception {
+        CountDownLatch startLatch = new CountDownLatch(1);
+        List<Future<Void>> futures = new ArrayList<>();
+        try (ExecutorService executor = Executors.newFixedThreadPool(THREAD_COUNT)) {
+            for (Callable<Void> task : tasks) {
+                futures.add(executor.submit(() -> {
+                    startLatch.await();
+                    return task.call();
+                }));
+            }
+            startLatch.countDown();
+        }
+        for (Future<Void> future : futures) {
+            future.get();
+        }
+    }
+}
@@ -0,0 +1,182 @@
+package com.dd.blog.global.aws;
+
+import com.amazonaws.auth.AWSStaticCredentialsProvider;
+import com.amazonaws.auth.BasicAWSCredentials;
+import com.amazonaws.client.builder.AwsClientBuilder;
+import com.amazonaws.services.s3.AmazonS3;
+import com.amazonaws.services.s3.AmazonS3ClientBuilder;
+import com.dd.blog.domain.post.image.entity.ImageVariant;
+import com.dd.blog.domain.post.image.entity.ImageVariantStatus;
+import com.dd.blog.domain.post.image.repository.ImageVariantRepository;
+import com.dd.blog.support.IntegrationTestSupport;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Import;
+import org.springframework.context.annotation.Primary;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.test.context.TestPropertySource;
+import org.springframework.web.multipart.MultipartFile;
+
+import javax.imageio.ImageIO;
+import java.awt.image.BufferedImage;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.stream.Collectors;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 업로드가 파일 전체를 힙/로컬 디스크에 올리지 않고 스트림으로 S3에 전송되는지 확인
+@Import(AwsS3UploaderTest.FakeS3Config.class)
+@TestPropertySource(properties = "spring.datasource.url=jdbc:h2:mem:db_s3_test;MODE=MySQL;LOCK_TIMEOUT=10000")
+class AwsS3UploaderTest extends IntegrationTestSupport {
+
+    // 썸네일 생성 대상이 아닌 디렉토리
+    private static final String DIR_NAME = "profile";
+    // 썸네일 생성 대상 디렉토리
+    private static final String VARIANT_DIR_NAME = "images";
+
+    private static final FakeS3Server S3_SERVER = startServer();
+
+    @Autowired
+    private AwsS3Uploader awsS3Uploader;
+    @Autowired
+    private ImageVariantRepository imageVariantRepository;
+
+    @TestConfiguration
+    static class FakeS3Config {
+        @Bean
+        @Primary
+        AmazonS3 fakeAmazonS3() {
+            return AmazonS3ClientBuilder.standard()
+                    .withCredentials(new AWSStaticCredentialsProvider(new BasicAWSCredentials("test", "test")))
+                    .withEndpointConfiguration(new AwsClientBuilder.EndpointConfiguration(S3_SERVER.endpoint(), "ap-northeast-2"))
+                    .withPathStyleAccessEnabled(true)
+                    .build();
+        }
+    }
+
+    @AfterAll
+    static void stopServer() {
+        S3_SERVER.close();
+    }
+
+    @Test
+    void 작은_파일은_단일_PUT으로_스트리밍_업로드() throws IOException {
+        byte[] content = randomBytes(256 * 1024);
+        String originalFilename = "small-" + System.nanoTime() + ".png";
+        int putCountBefore = S3_SERVER.putObjectCount();
+
+        String url = awsS3Uploader.upload(new StreamOnlyMultipartFile(originalFilename, "image/png", content), DIR_NAME);
+
+        String key = keyOf(url);
+        assertThat(key).startsWith(DIR_NAME + "/").endsWith(".png");
+        assertThat(S3_SERVER.object(key)).hasValue(content);
+        assertThat(S3_SERVER.contentType(key)).hasValue("image/png");
+        assertThat(S3_SERVER.putObjectCount()).isEqualTo(putCountBefore + 1);
+        // 원본 파일명으로 로컬 임시 파일을 만들지 않음
+        assertThat(Files.exists(Path.of(originalFilename))).isFalse();
+    }
+
+    @Test
+    void 큰_파일은_멀티파트로_업로드() throws IOException {
+        byte[] content = randomBytes((int) AwsS3Config.MULTIPART_UPLOAD_THRESHOLD + 1024 * 1024);
+        int multipartCountBefore = S3_SERVER.multipartUploadCount();
+        int partCountBefore = S3_SERVER.uploadPartCount();
+
+        String url = awsS3Uploader.upload(new StreamOnlyMultipartFile("large.jpg", "image/jpeg", content), DIR_NAME);
+
+        assertThat(S3_SERVER.object(keyOf(url))).hasValue(content);
+        assertThat(S3_SERVER.multipartUploadCount()).isEqualTo(multipartCountBefore + 1);
+        assertThat(S3_SERVER.uploadPartCount() - partCountBefore).isGreaterThanOrEqualTo(2);
+    }
+
+    @Test
+    void 같은_파일명으로_동시에_올려도_서로_다른_객체로_저장() throws IOException {
+        int fileCount = 8;
+        MultipartFile[] files = new MultipartFile[fileCount];
+        for (int i = 0; i < fileCount; i++) {
+            files[i] = new StreamOnlyMultipartFile("same-name.png", "image/png", randomBytes(64 * 1024));
+        }
+
+        List<UploadedImage> uploadedImages = awsS3Uploader.uploadAll(files, DIR_NAME);
+
+        Set<String> keys = uploadedImages.stream()
+                .map(uploadedImage -> keyOf(uploadedImage.url()))
+                .collect(Collectors.toSet());
+        assertThat(keys).hasSize(fileCount);
+        for (int i = 0; i < fileCount; i++) {
+            assertThat(S3_SERVER.object(keyOf(uploadedImages.get(i).url()))).hasValue(files[i].getInputStream().readAllBytes());
+        }
+    }
+
+    @Test
+    void 원본을_반납하면_변환_이미지도_삭제() throws Exception {
+        BufferedImage image = new BufferedImage(400, 300, BufferedImage.TYPE_INT_RGB);
+        image.setRGB(0, 0, new Random().nextInt());
+        ByteArrayOutputStream png = new ByteArrayOutputStream();
+        ImageIO.write(image, "png", png);
+
+        List<UploadedImage> uploadedImages = awsS3Uploader.uploadAll(
+                new MultipartFile[]{new StreamOnlyMultipartFile("variant.png", "image/png", png.toByteArray())}, VARIANT_DIR_NAME);
+        String url = uploadedImages.get(0).url();
+
+        // 변환 작업은 스케줄러가 주기적으로 가져가므로 완료될 때까지 대기
+        ImageVariant variant = null;
+        for (int i = 0; i < 100 && (variant == null || variant.getStatus() != ImageVariantStatus.DONE); i++) {
+            Thread.sleep(100);
+            variant = imageVariantRepository.findByOriginalUrl(url).orElseThrow();
+        }
+        assertThat(variant.getStatus()).isEqualTo(ImageVariantStatus.DONE);
+        assertThat(S3_SERVER.object(keyOf(variant.getThumbnailUrl()))).isPresent();
+        assertThat(S3_SERVER.object(keyOf(variant.getMediumUrl()))).isPresent();
+
+        awsS3Uploader.deleteAll(uploadedImages);
+
+        assertThat(S3_SERVER.object(keyOf(url))).isEmpty();
+        assertThat(S3_SERVER.object(keyOf(variant.getThumbnailUrl()))).isEmpty();
+        assertThat(S3_SERVER.object(keyOf(variant.getMediumUrl()))).isEmpty();
+        assertThat(imageVariantRepository.findByOriginalUrl(url)).isEmpty();
+    }
+
+    private static FakeS3Server startServer() {
+        try {
+            return new FakeS3Server();
+        } catch (IOException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    // path-style URL: /{bucket}/{key}
+    private String keyOf(String url) {
+        String path = URI.create(url).getPath();
+        return path.substring(path.indexOf('/', 1) + 1);
+    }
+
+    private byte[] randomBytes(int size) {
+        byte[] bytes = new byte[size];
+        new Random().nextBytes(bytes);
+        return bytes;
+    }
+
+    // 전체 바이트를 꺼내는 호출을 막아 스트림으로만 읽는지 확인
+    private static class StreamOnlyMultipartFile extends MockMultipartFile {
+
+        StreamOnlyMultipartFile(String originalFilename, String contentType, byte[] content) {
+            super("file", originalFilename, contentType, content);
+        }
+
+        @Override
+        public byte[] getBytes() {
+            throw new UnsupportedOperationException("getBytes() 호출 금지");
+        }
+    }
+}
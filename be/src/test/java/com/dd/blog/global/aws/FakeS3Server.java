@@ -0,0 +1,195 @@
+package com.dd.blog.global.aws;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.HexFormat;
+import java.util.Map;
+import java.util.Optional;
+import java.util.TreeMap;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+// 테스트용 S3 대역 (path-style PUT/GET/DELETE, 멀티파트 업로드만 지원)
+class FakeS3Server implements AutoCloseable {
+
+    private final HttpServer server;
+    private final Map<String, byte[]> objects = new ConcurrentHashMap<>();
+    private final Map<String, String> contentTypes = new ConcurrentHashMap<>();
+    private final Map<String, Map<Integer, byte[]>> multipartUploads = new ConcurrentHashMap<>();
+
+    private final AtomicInteger putObjectCount = new AtomicInteger();
+    private final AtomicInteger multipartUploadCount = new AtomicInteger();
+    private final AtomicInteger uploadPartCount = new AtomicInteger();
+
+    FakeS3Server() throws IOException {
+        server = HttpServer.create(new InetSocketAddress("127.0.0.1", 0), 0);
+        server.createContext("/", this::handle);
+        server.start();
+    }
+
+    String endpoint() {
+        return "http://127.0.0.1:" + server.getAddress().getPort();
+    }
+
+    Optional<byte[]> object(String key) {
+        return Optional.ofNullable(objects.get(key));
+    }
+
+    Optional<String> contentType(String key) {
+        return Optional.ofNullable(contentTypes.get(key));
+    }
+
+    int putObjectCount() {
+        return putObjectCount.get();
+    }
+
+    int multipartUploadCount() {
+        return multipartUploadCount.get();
+    }
+
+    int uploadPartCount() {
+        return uploadPartCount.get();
+    }
+
+    @Override
+    public void close() {
+        server.stop(0);
+    }
+
+    private void handle(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            String path = exchange.getRequestURI().getPath();
+            // /{bucket}/{key}
+            String key = URLDecoder.decode(path.substring(path.indexOf('/', 1) + 1), StandardCharsets.UTF_8);
+            Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+
+            switch (exchange.getRequestMethod()) {
+                case "PUT" -> {
+                    byte[] body = readBody(exchange);
+                    if (query.containsKey("partNumber")) {
+                        uploadPartCount.incrementAndGet();
+                        multipartUploads.get(query.get("uploadId")).put(Integer.parseInt(query.get("partNumber")), body);
+                    } else {
+                        putObjectCount.incrementAndGet();
+                        objects.put(key, body);
+                        contentTypes.put(key, exchange.getRequestHeaders().getFirst("Content-Type"));
+                    }
+                    exchange.getResponseHeaders().add("ETag", "\"" + md5(body) + "\"");
+                    exchange.sendResponseHeaders(200, -1);
+                }
+                case "POST" -> {
+                    readBody(exchange);
+                    if (query.containsKey("uploads")) {
+                        String uploadId = UUID.randomUUID().toString();
+                        multipartUploads.put(uploadId, new TreeMap<>());
+                        multipartUploadCount.incrementAndGet();
+                        contentTypes.put(key, exchange.getRequestHeaders().getFirst("Content-Type"));
+                        sendXml(exchange, "<InitiateMultipartUploadResult><Key>" + key + "</Key>"
+                                + "<UploadId>" + uploadId + "</UploadId></InitiateMultipartUploadResult>");
+                    } else {
+                        ByteArrayOutputStream assembled = new ByteArrayOutputStream();
+                        for (byte[] part : multipartUploads.remove(query.get("uploadId")).values()) {
+                            assembled.writeBytes(part);
+                        }
+                        objects.put(key, assembled.toByteArray());
+                        sendXml(exchange, "<CompleteMultipartUploadResult><Key>" + key + "</Key>"
+                                + "<ETag>\"" + md5(assembled.toByteArray()) + "-1\"</ETag></CompleteMultipartUploadResult>");
+                    }
+                }
+                case "DELETE" -> {
+                    if (query.containsKey("uploadId")) {
+                        multipartUploads.remove(query.get("uploadId"));
+                    } else {
+                        objects.remove(key);
+                    }
+                    exchange.sendResponseHeaders(204, -1);
+                }
+                case "GET" -> {
+                    byte[] body = objects.get(key);
+                    if (body == null) {
+                        exchange.sendResponseHeaders(404, -1);
+                        return;
+                    }
+                    exchange.sendResponseHeaders(200, body.length);
+                    exchange.getResponseBody().write(body);
+                }
+                default -> exchange.sendResponseHeaders(405, -1);
+            }
+        }
+    }
+
+    // 서명된 스트리밍 업로드(aws-chunked)는 "크기;chunk-signature=...\r\n데이터\r\n" 반복
+    private byte[] readBody(HttpExchange exchange) throws IOException {
+        byte[] raw = exchange.getRequestBody().readAllBytes();
+        String sha256Header = exchange.getRequestHeaders().getFirst("x-amz-content-sha256");
+        if (sha256Header == null || !sha256Header.startsWith("STREAMING-")) {
+            return raw;
+        }
+
+        ByteArrayOutputStream decoded = new ByteArrayOutputStream();
+        int position = 0;
+        while (position < raw.length) {
+            int lineEnd = indexOfCrlf(raw, position);
+            String header = new String(raw, position, lineEnd - position, StandardCharsets.US_ASCII);
+            int size = Integer.parseInt(header.split(";")[0], 16);
+            position = lineEnd + 2;
+            if (size == 0) {
+                break;
+            }
+            decoded.write(raw, position, size);
+            position += size + 2;
+        }
+        return decoded.toByteArray();
+    }
+
+    private int indexOfCrlf(byte[] bytes, int from) {
+        for (int i = from; i < bytes.length - 1; i++) {
+            if (bytes[i] == '\r' && bytes[i + 1] == '\n') {
+                return i;
+            }
+        }
+        throw new IllegalStateException("잘못된 aws-chunked 본문");
+    }
+
+    private void sendXml(HttpExchange exchange, String xml) throws IOException {
+        byte[] body = ("<?xml version=\"1.0\" encoding=\"UTF-8\"?>" + xml).getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().add("Content-Type", "application/xml");
+        exchange.sendResponseHeaders(200, body.length);
+        try (OutputStream outputStream = exchange.getResponseBody()) {
+            outputStream.write(body);
+        }
+    }
+
+    private Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> query = new HashMap<>();
+        if (rawQuery == null) {
+            return query;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int index = pair.indexOf('=');
+            String name = index == -1 ? pair : pair.substring(0, index);
+            String value = index == -1 ? "" : URLDecoder.decode(pair.substring(index + 1), StandardCharsets.UTF_8);
+            query.put(name, value);
+        }
+        return query;
+    }
+
+    private String md5(byte[] body) {
+        try {
+            return HexFormat.of().formatHex(MessageDigest.getInstance("MD5").digest(body));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
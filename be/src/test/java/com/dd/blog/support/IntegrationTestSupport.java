@@ -0,0 +1,27 @@
+package com.dd.blog.support;
+
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.test.context.ActiveProfiles;
+import org.springframework.test.context.TestPropertySource;
+
+// H2(MySQL 모드) 위에서 애플리케이션 전체를 띄우는 통합 테스트 공통 설정
+@SpringBootTest
+@ActiveProfiles("test")
+@TestPropertySource(properties = {
+        "spring.datasource.url=jdbc:h2:mem:db_test;MODE=MySQL;LOCK_TIMEOUT=10000",
+        "spring.jpa.properties.hibernate.dialect=org.hibernate.dialect.H2Dialect",
+        "spring.jpa.hibernate.ddl-auto=create",
+        "spring.jpa.properties.hibernate.session_factory.statement_inspector=com.dd.blog.support.QueryCounter",
+        "spring.datasource.hikari.maximum-pool-size=20",
+        "custom.jwt.secretKey=abcdefghijklmnopqrstuvwxyz0123456789abcdefghijklmnopqrstuvwxyz",
+        "custom.accessToken.expirationSeconds=600",
+        "custom.refreshToken.expirationSeconds=86400",
+        "cloud.aws.credentials.access-key=test",
+        "cloud.aws.credentials.secret-key=test",
+        "logging.level.com.dd.blog=INFO",
+        "logging.level.org.hibernate.SQL=INFO",
+        "logging.level.org.hibernate.orm.jdbc.bind=INFO",
+        "logging.level.org.hibernate.orm.jdbc.extract=INFO"
+})
+public abstract class IntegrationTestSupport {
+}
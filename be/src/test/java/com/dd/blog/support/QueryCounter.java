@@ -0,0 +1,29 @@
+package com.dd.blog.support;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+// 현재 스레드에서 Hibernate가 실행한 SQL 수 집계 (스케줄러 등 다른 스레드의 쿼리는 제외)
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Integer> COUNT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Integer count = COUNT.get();
+        if (count != null) {
+            COUNT.set(count + 1);
+        }
+        return sql;
+    }
+
+    public static void start() {
+        COUNT.set(0);
+    }
+
+    // 집계를 끝내고 start() 이후 실행된 SQL 수 반환
+    public static int stop() {
+        Integer count = COUNT.get();
+        COUNT.remove();
+        return count == null ? 0 : count;
+    }
+}